@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchResult;
+import seedu.address.logic.commands.RunCommand.OnError;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Measures the time to import a script of {@code add p} commands, executing each line on its own as typed commands
+ * are, and executing the script as one batch.
+ * Executing each line saves the address book after every command, so it is only run for the first lines of the
+ * script.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=BatchImportBenchmark}.
+ */
+public class BatchImportBenchmark {
+
+    private static final int LINE_COUNT = 100_000;
+    private static final int LINES_EXECUTED_ONE_BY_ONE = 2_000;
+
+    public static void main(String[] args) throws Exception {
+        List<String> commandLines = new ArrayList<>(LINE_COUNT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            commandLines.add("add p n/Person " + i + " p/" + (80000000 + i) + " e/person" + i + "@example.com"
+                    + " a/" + (i % 200) + ", Clementi Rd t/friends");
+        }
+        Path folder = Files.createTempDirectory("batch-benchmark");
+
+        Logic logic = createLogic(folder.resolve("one-by-one.json"));
+        long start = System.nanoTime();
+        for (String commandLine : commandLines.subList(0, LINES_EXECUTED_ONE_BY_ONE)) {
+            logic.execute(commandLine);
+        }
+        double oneByOneMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("One by one %,7d lines %,10.1f ms  (%,.3f ms/line)%n",
+                LINES_EXECUTED_ONE_BY_ONE, oneByOneMillis, oneByOneMillis / LINES_EXECUTED_ONE_BY_ONE);
+
+        logic = createLogic(folder.resolve("batch.json"));
+        start = System.nanoTime();
+        BatchResult result = logic.executeBatch(commandLines, OnError.STOP);
+        double batchMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("Batch      %,7d lines %,10.1f ms  (%,.3f ms/line, %d failed)%n",
+                LINE_COUNT, batchMillis, batchMillis / LINE_COUNT, result.getFailureCount());
+    }
+
+    private static Logic createLogic(Path addressBookFilePath) throws IOException {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(addressBookFilePath.resolveSibling("preferences.json")));
+        return new LogicManager(new ModelManager(), storage);
+    }
+}
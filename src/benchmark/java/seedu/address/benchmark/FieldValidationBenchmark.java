@@ -0,0 +1,153 @@
+package seedu.address.benchmark;
+
+import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+
+/**
+ * Measures the cost per value of validating and constructing each field, as done when parsing a command or loading
+ * a record, before and after validation was precompiled and done once per value.
+ * The "before" benchmarks repeat what used to happen: a {@code String#matches} in the parser or storage and another
+ * in the constructor, plus parsing and re-formatting for date-times.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=FieldValidationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    /** The number of distinct values of each field, a power of two so that the next one is picked by masking. */
+    private static final int VALUE_COUNT = 1024;
+
+    private final String[] names = new String[VALUE_COUNT];
+    private final String[] phones = new String[VALUE_COUNT];
+    private final String[] emails = new String[VALUE_COUNT];
+    private final String[] addresses = new String[VALUE_COUNT];
+    private final String[] tags = new String[VALUE_COUNT];
+    private final String[] dateTimes = new String[VALUE_COUNT];
+    private int next;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FieldValidationBenchmark.class.getName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            names[i] = "Person Number " + i;
+            phones[i] = String.valueOf(80000000 + i);
+            emails[i] = "person." + i + "@example-domain.com";
+            addresses[i] = i + ", Jurong West Ave 6, #08-111";
+            tags[i] = "tag" + (i % 100);
+            dateTimes[i] = String.format("2024-%02d-%02d %02d:%02d", i % 12 + 1, i % 28 + 1, i % 24, i % 60);
+        }
+    }
+
+    @Benchmark
+    public boolean nameBefore() {
+        return matchesTwice(nextValue(names), Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Name nameAfter() {
+        String value = nextValue(names);
+        return Name.isValidName(value) ? Name.ofValidated(value) : null;
+    }
+
+    @Benchmark
+    public boolean phoneBefore() {
+        return matchesTwice(nextValue(phones), Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Phone phoneAfter() {
+        String value = nextValue(phones);
+        return Phone.isValidPhone(value) ? Phone.ofValidated(value) : null;
+    }
+
+    @Benchmark
+    public boolean emailBefore() {
+        return matchesTwice(nextValue(emails), Email.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Email emailAfter() {
+        String value = nextValue(emails);
+        return Email.isValidEmail(value) ? Email.ofValidated(value) : null;
+    }
+
+    @Benchmark
+    public boolean addressBefore() {
+        return matchesTwice(nextValue(addresses), Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Address addressAfter() {
+        String value = nextValue(addresses);
+        return Address.isValidAddress(value) ? Address.ofValidated(value) : null;
+    }
+
+    @Benchmark
+    public boolean tagBefore() {
+        return matchesTwice(nextValue(tags), Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public Tag tagAfter() {
+        String value = nextValue(tags);
+        return Tag.isValidTagName(value) ? Tag.ofValidated(value) : null;
+    }
+
+    @Benchmark
+    public LocalDateTime dateTimeBefore() {
+        String value = nextValue(dateTimes);
+        for (int i = 0; i < 2; i++) {
+            if (!value.matches(DateTime.VALIDATION_REGEX)
+                    || !LocalDateTime.parse(value, DATE_TIME_FORMATTER).format(DATE_TIME_FORMATTER).equals(value)) {
+                return null;
+            }
+        }
+        return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+    }
+
+    @Benchmark
+    public DateTime dateTimeAfter() {
+        String value = nextValue(dateTimes);
+        return DateTime.isValidDateTime(value) ? DateTime.ofValidated(value) : null;
+    }
+
+    private String nextValue(String[] values) {
+        next = (next + 1) & (VALUE_COUNT - 1);
+        return values[next];
+    }
+
+    private static boolean matchesTwice(String value, String regex) {
+        return value.matches(regex) && value.matches(regex);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.person.Person;
+import seedu.address.ui.PersonCard;
+import seedu.address.ui.PersonListPanel;
+
+/**
+ * Measures how long each frame takes while scrolling quickly through a large person list,
+ * comparing cells that build a new {@code PersonCard} per update against the reusable cells of
+ * {@code PersonListPanel}.
+ *
+ * Run with {@code ./gradlew benchmark} on a machine with a display, or with {@code ./gradlew benchmark -Pheadless}
+ * to render in software without one. Software rendering makes every frame slower, but the layout work being compared
+ * is the same, so the two kinds of cells can still be compared with each other.
+ */
+public class ListCellFrameTimeBenchmark {
+
+    private static final int PERSON_COUNT = 100_000;
+    private static final int WARMUP_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 600;
+    private static final int ROWS_SCROLLED_PER_FRAME = 37;
+
+    public static void main(String[] args) throws InterruptedException {
+        ObservableList<Person> persons = FXCollections.observableArrayList(createPersons());
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        run("New card per update", () -> createListViewWithNewCardPerUpdate(persons));
+        run("Reused card per cell", () -> createPanelListView(persons));
+        Platform.exit();
+    }
+
+    private static void run(String label, Supplier<ListView<Person>> listViewSupplier) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        long[] frameNanos = new long[MEASURED_FRAMES];
+
+        Platform.runLater(() -> {
+            ListView<Person> listView = listViewSupplier.get();
+            Stage stage = new Stage();
+            stage.setScene(new Scene(listView, 600, 800));
+            stage.show();
+
+            new AnimationTimer() {
+                private int frame = 0;
+
+                @Override
+                public void handle(long now) {
+                    long start = System.nanoTime();
+                    listView.scrollTo((frame * ROWS_SCROLLED_PER_FRAME) % PERSON_COUNT);
+                    listView.layout();
+                    long elapsed = System.nanoTime() - start;
+
+                    if (frame >= WARMUP_FRAMES) {
+                        frameNanos[frame - WARMUP_FRAMES] = elapsed;
+                    }
+                    frame++;
+                    if (frame == WARMUP_FRAMES + MEASURED_FRAMES) {
+                        stop();
+                        stage.close();
+                        finished.countDown();
+                    }
+                }
+            }.start();
+        });
+
+        finished.await();
+        report(label, frameNanos);
+    }
+
+    private static ListView<Person> createPanelListView(ObservableList<Person> persons) {
+        PersonListPanel panel = new PersonListPanel(persons, person -> Collections.emptySet());
+        @SuppressWarnings("unchecked")
+        ListView<Person> listView = (ListView<Person>) panel.getRoot().lookup("#personListView");
+        return listView;
+    }
+
+    private static ListView<Person> createListViewWithNewCardPerUpdate(ObservableList<Person> persons) {
+        ListView<Person> listView = new ListView<>(persons);
+        listView.setCellFactory(unused -> new ListCell<>() {
+            @Override
+            protected void updateItem(Person person, boolean empty) {
+                super.updateItem(person, empty);
+                if (empty || person == null) {
+                    setGraphic(null);
+                } else {
+                    setGraphic(new PersonCard(person, getIndex() + 1, Collections.emptySet()).getRoot());
+                }
+            }
+        });
+        return listView;
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            Set<Tag> tags = new HashSet<>();
+            tags.add(new Tag("tag" + (i % 7)));
+            if (i % 3 == 0) {
+                tags.add(new Tag("friends"));
+            }
+            persons.add(new Person(new Name("Person " + i), new Phone(String.valueOf(90000000 + i)),
+                    new Email("person" + i + "@example.com"), new Address(i + ", Clementi Ave 3"), tags));
+        }
+        return persons;
+    }
+
+    private static void report(String label, long[] frameNanos) {
+        long[] sorted = frameNanos.clone();
+        Arrays.sort(sorted);
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        System.out.printf("%-22s mean %7.3f ms   p50 %7.3f ms   p95 %7.3f ms   max %7.3f ms%n", label,
+                mean / 1e6, sorted[sorted.length / 2] / 1e6, sorted[sorted.length * 95 / 100] / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.person.Person;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the file size and the save and load times of a large address book in the JSON and binary formats.
+ *
+ * Run with {@code ./gradlew benchmark -Pbenchmark=StorageFormatBenchmark}.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int PERSON_COUNT = 500_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        AddressBook addressBook = createAddressBook();
+        Path folder = Files.createTempDirectory("storage-benchmark");
+
+        run("JSON", new JsonAddressBookStorage(folder.resolve("addressbook.json")), addressBook);
+        run("Binary", new BinaryAddressBookStorage(folder.resolve("addressbook.bin")), addressBook);
+    }
+
+    private static void run(String label, AddressBookStorage storage, AddressBook addressBook)
+            throws IOException, DataLoadingException {
+        long bestSaveNanos = Long.MAX_VALUE;
+        long bestLoadNanos = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            bestSaveNanos = Math.min(bestSaveNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            storage.readAddressBook();
+            bestLoadNanos = Math.min(bestLoadNanos, System.nanoTime() - start);
+        }
+
+        System.out.printf("%-8s size %,12d bytes  save %,8.1f ms  load %,8.1f ms%n", label,
+                Files.size(storage.getAddressBookFilePath()), bestSaveNanos / 1e6, bestLoadNanos / 1e6);
+        Files.delete(storage.getAddressBookFilePath());
+    }
+
+    private static AddressBook createAddressBook() {
+        String[] streets = {"Jurong West Ave 6", "Clementi Rd", "Serangoon Ave 3", "Tampines St 81", "Bedok North Rd"};
+        String[] tags = {"friends", "colleagues", "family", "neighbours"};
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            addressBook.addPerson(new Person(new Name("Person " + i), new Phone(String.valueOf(80000000 + i)),
+                    new Email("person" + i + "@example.com"),
+                    new Address((i % 200) + ", " + streets[i % streets.length]),
+                    Set.of(new Tag(tags[i % tags.length]))));
+        }
+        return addressBook;
+    }
+}
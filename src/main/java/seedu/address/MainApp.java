@@ -15,6 +15,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -23,6 +24,9 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackgroundAddressBookSaver;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -43,6 +47,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected BackgroundAddressBookSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,16 +62,65 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new BackgroundAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getAddressBookFormat()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case BINARY:
+            return initBinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        case JSON:
+        default:
+            handOverBinaryAddressBook(userPrefs.getAddressBookFilePath());
+            JsonAddressBookStorage jsonAddressBookStorage =
+                    new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            jsonAddressBookStorage.setLoadProgressListener((bytesRead, totalBytes) ->
+                    logger.fine("Loaded " + bytesRead + " of " + totalBytes + " bytes of the data file"));
+            return jsonAddressBookStorage;
+        }
+    }
+
+    /**
+     * Returns a {@code BinaryAddressBookStorage} for the binary file that goes with the JSON data file at
+     * {@code jsonFilePath}, taking over the data from the JSON file if it is there.
+     */
+    private AddressBookStorage initBinaryAddressBookStorage(Path jsonFilePath) {
+        BinaryAddressBookStorage binaryAddressBookStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        try {
+            binaryAddressBookStorage.takeOverFromJson(jsonFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not import " + jsonFilePath + " into the binary data file: " + e);
+        }
+        return binaryAddressBookStorage;
+    }
+
+    /**
+     * Hands the data in the binary file that goes with the JSON data file at {@code jsonFilePath} over to the JSON
+     * file, if the binary file is there, so that switching back from the binary format keeps the data.
+     */
+    private void handOverBinaryAddressBook(Path jsonFilePath) {
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        try {
+            new BinaryAddressBookStorage(binaryFilePath).handOverToJson(jsonFilePath);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not export " + binaryFilePath + " to the JSON data file: " + e);
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +231,21 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (model != null && model.isInTransaction()) {
+            logger.info("Rolling back the transaction in progress");
+            model.rollbackTransaction();
+        }
+        if (logic != null) {
+            try {
+                logic.close();
+            } catch (CommandException e) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+                ui.showSaveError(e.getMessage());
+            }
+        }
+        if (storage == null || model == null) {
+            return;
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the address book data file can be stored.
+ */
+public enum AddressBookFormat {
+    /** The whole address book is rewritten as a JSON file on every save. */
+    JSON,
+    /** Changes are appended to a journal next to a JSON snapshot, which is rewritten only when compacting. */
+    JOURNAL,
+    /** The whole address book is rewritten on every save, in a compact binary file next to the JSON file. */
+    BINARY
+}
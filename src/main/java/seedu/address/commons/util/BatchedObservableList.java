@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list backed by an {@code ArrayList} that can publish several modifications as a single change.
+ * Ranges are added and removed in one step instead of one element at a time.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Makes the modifications in {@code modifications} to this list and publishes them to listeners together,
+     * in a single change.
+     */
+    public void changeTogether(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the element at {@code fromIndex} and inserts {@code element} at {@code toIndex}, the position it
+     * takes in the list once the removed element is gone.
+     * Only the elements between the two positions are shifted, and listeners see them replaced in one change.
+     */
+    public void move(int fromIndex, int toIndex, E element) {
+        changeTogether(() -> {
+            for (int i = fromIndex; i < toIndex; i++) {
+                set(i, get(i + 1));
+            }
+            for (int i = fromIndex; i > toIndex; i--) {
+                set(i, get(i - 1));
+            }
+            set(toIndex, element);
+        });
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+        changeTogether(() -> {
+            elements.addAll(index, toAdd);
+            nextAdd(index, index + toAdd.size());
+            modCount++;
+        });
+        return true;
+    }
+
+    @Override
+    public void remove(int fromIndex, int toIndex) {
+        removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        List<E> range = elements.subList(fromIndex, toIndex);
+        List<E> removed = new ArrayList<>(range);
+        changeTogether(() -> {
+            range.clear();
+            nextRemove(fromIndex, removed);
+            modCount++;
+        });
+    }
+}
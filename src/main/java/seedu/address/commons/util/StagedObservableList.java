@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An observable copy of a source list that follows each change of the source as it is made, or, while staging, holds
+ * the changes back and then makes them all together in a single change.
+ * Only the ranges that changed are copied, so following a change costs as much as the change itself.
+ */
+public class StagedObservableList<E> extends BatchedObservableList<E> {
+
+    private final ObservableList<? extends E> source;
+
+    /** The changes of the source held back while staging, in the order they were made, or null if not staging. */
+    private List<Replacement<E>> staged;
+
+    /**
+     * Creates a copy of {@code source} that follows its changes.
+     */
+    public StagedObservableList(ObservableList<? extends E> source) {
+        this.source = requireNonNull(source);
+        addAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Holds back the changes of the source from now on, until {@link #publishStaged()} or {@link #discardStaged()}.
+     */
+    public void startStaging() {
+        staged = new ArrayList<>();
+    }
+
+    /**
+     * Returns true if the changes of the source are being held back.
+     */
+    public boolean isStaging() {
+        return staged != null;
+    }
+
+    /**
+     * Makes the changes of the source held back since staging started, in a single change, and follows the source
+     * as it changes again.
+     */
+    public void publishStaged() {
+        List<Replacement<E>> replacements = staged;
+        staged = null;
+        apply(replacements);
+    }
+
+    /**
+     * Drops the changes of the source held back since staging started, as the source has been changed back, and
+     * follows the source as it changes again.
+     * The source is compared with this list once, and copied in a single change if it was not changed back exactly.
+     */
+    public void discardStaged() {
+        staged = null;
+        if (!equals(source)) {
+            setAll(source);
+        }
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Replacement<E>> replacements = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            int removedSize = change.wasPermutated() ? change.getTo() - change.getFrom() : change.getRemovedSize();
+            replacements.add(new Replacement<>(change.getFrom(), removedSize,
+                    new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()))));
+        }
+
+        if (staged != null) {
+            staged.addAll(replacements);
+        } else {
+            apply(replacements);
+        }
+    }
+
+    private void apply(List<Replacement<E>> replacements) {
+        changeTogether(() -> {
+            for (Replacement<E> replacement : replacements) {
+                remove(replacement.from, replacement.from + replacement.removedSize);
+                addAll(replacement.from, replacement.added);
+            }
+        });
+    }
+
+    /**
+     * A range of the source that was replaced, with the elements it held after the change.
+     * Its position is in the source as it was after the changes before it, so the replacements can be made in order.
+     */
+    private static class Replacement<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        Replacement(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+    }
+}
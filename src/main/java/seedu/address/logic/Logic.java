@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Map;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.BatchResult;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand.OnError;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -34,6 +37,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes each of the commands in order, and saves once after the last of them.
+     * Blank lines and lines starting with {@code RunCommand.COMMENT_MARKER} are skipped.
+     * @param commandLines The commands, one per line.
+     * @param onError Whether to stop at the first command that fails, or continue with the next.
+     * @return the result of each command that was executed.
+     * @throws CommandException If an error occurs during saving.
+     */
+    BatchResult executeBatch(List<String> commandLines, OnError onError) throws CommandException;
+
+    /**
+     * Sets the handler that receives the error messages of saves that failed after their command returned.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Blocks until every save handed to the background has been written.
+     * If the last of them failed, the address book is saved once more on the calling thread, unless a transaction is
+     * in progress, as its changes may still be rolled back.
+     * Commands can still be executed and saved afterwards.
+     * @throws CommandException If that save fails too.
+     */
+    void flushSaves() throws CommandException;
+
+    /**
+     * Flushes the saves as {@link #flushSaves()} does, then stops saving in the background, e.g. before the
+     * application exits. Nothing is saved after this.
+     * @throws CommandException If the last save failed and saving again fails too.
+     */
+    void close() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -41,10 +76,16 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
-    /** Returns an unmodifiable view of the filtered list of persons */
+    /**
+     * Returns an unmodifiable view of the filtered list of persons as it is displayed, which only shows the changes
+     * of a transaction once it is committed.
+     */
     ObservableList<Person> getFilteredPersonList();
 
-    /** Returns an unmodifiable view of the filtered list of events */
+    /**
+     * Returns an unmodifiable view of the filtered list of events as it is displayed, which only shows the changes
+     * of a transaction once it is committed.
+     */
     ObservableList<Event> getFilteredEventList();
 
     /** Resorts Events */
@@ -66,8 +107,8 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Return person event association mapping
+     * Returns the events that {@code person} is linked to.
      */
-    public Map<Event, ArrayList<Person>> getPersonEventAssociationMap();
+    Set<Event> getLinkedEvents(Person person);
 
 }
@@ -1,24 +1,32 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Map;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchResult;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.OnError;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
+import seedu.address.storage.BackgroundAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -35,14 +43,35 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final BackgroundAddressBookSaver saver;
+    private long savedVersion;
+    private volatile boolean isBackgroundSaveFailed;
+    private Consumer<String> saveErrorHandler = message -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved as part of each command that changes it.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
+        this.saver = null;
+        addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands snapshots of the changed address book to {@code saver}
+     * instead of saving them while executing commands.
+     * Failed saves are reported to the handler set with {@link #setSaveErrorHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, BackgroundAddressBookSaver saver) {
+        this.model = model;
+        this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
+        saver.setErrorHandler(this::handleBackgroundSaveError);
     }
 
     @Override
@@ -58,15 +87,96 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        saveIfChanged();
+        return commandResult;
+    }
+
+    @Override
+    public BatchResult executeBatch(List<String> commandLines, OnError onError) throws CommandException {
+        requireNonNull(commandLines);
+        logger.info("----------------[BATCH COMMANDS][" + commandLines.size() + " lines]");
+
+        BatchResult batchResult = RunCommand.executeLines(model, commandLines, onError);
+
+        saveIfChanged();
+        return batchResult;
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved, or if the last background save failed.
+     * Nothing is saved during a transaction, as its changes may still be rolled back.
+     */
+    private void saveIfChanged() throws CommandException {
+        if (model.isInTransaction()) {
+            return;
+        }
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() == savedVersion && !isBackgroundSaveFailed) {
+            return;
+        }
+
+        if (saver != null) {
+            isBackgroundSaveFailed = false;
+            saver.save(AddressBookSnapshot.of(addressBook));
+            savedVersion = addressBook.getVersion();
+            return;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
+            savedVersion = addressBook.getVersion();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void flushSaves() throws CommandException {
+        if (saver == null) {
+            return;
+        }
+        saver.flush();
+        if (!isBackgroundSaveFailed || model.isInTransaction()) {
+            return;
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        try {
+            storage.saveAddressBook(addressBook);
+            isBackgroundSaveFailed = false;
+            savedVersion = addressBook.getVersion();
+        } catch (IOException ioe) {
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+    }
+
+    @Override
+    public void close() throws CommandException {
+        try {
+            flushSaves();
+        } finally {
+            if (saver != null) {
+                saver.close();
+            }
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    private void handleBackgroundSaveError(IOException ioe) {
+        isBackgroundSaveFailed = true;
+        saveErrorHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -76,12 +186,12 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return model.getFilteredPersonList();
+        return model.getDisplayedPersonList();
     }
 
     @Override
     public ObservableList<Event> getFilteredEventList() {
-        return model.getFilteredEventList();
+        return model.getDisplayedEventList();
     }
 
     @Override
@@ -105,7 +215,7 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public Map<Event, ArrayList<Person>> getPersonEventAssociationMap() {
-        return model.getPersonEventAssociationMap();
+    public Set<Event> getLinkedEvents(Person person) {
+        return model.getLinkedEvents(person);
     }
 }
@@ -0,0 +1,236 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the results of executing the lines of a batch of commands, in the order they were executed.
+ */
+public class BatchResult {
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d of %2$d commands: %3$d succeeded, %4$d failed.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d: %2$s\n    %3$s";
+    public static final String MESSAGE_ROLLED_BACK = "The transaction begun in the batch was rolled back.";
+    public static final String MESSAGE_LEFT_OPEN = "The transaction begun in the batch is still in progress. Enter \""
+            + CommitCommand.COMMAND_WORD + "\" or \"" + RollbackCommand.COMMAND_WORD + "\" to end it.";
+
+    private final List<LineResult> lineResults = new ArrayList<>();
+    private final int commandCount;
+    private int failureCount;
+    private boolean refresh;
+    private boolean rolledBack;
+    private boolean leftOpen;
+
+    /**
+     * Constructs an empty {@code BatchResult} for a batch of {@code commandCount} commands.
+     */
+    public BatchResult(int commandCount) {
+        this.commandCount = commandCount;
+    }
+
+    /**
+     * Records that the command on line {@code lineNumber} succeeded with {@code commandResult}.
+     */
+    public void addSuccess(int lineNumber, String commandText, CommandResult commandResult) {
+        requireNonNull(commandResult);
+        lineResults.add(new LineResult(lineNumber, commandText, true, commandResult.getFeedbackToUser()));
+        refresh |= commandResult.isRefresh();
+    }
+
+    /**
+     * Records that the command on line {@code lineNumber} failed with {@code errorMessage}.
+     */
+    public void addFailure(int lineNumber, String commandText, String errorMessage) {
+        lineResults.add(new LineResult(lineNumber, commandText, false, errorMessage));
+        failureCount++;
+    }
+
+    /**
+     * Records that the transaction begun in the batch was rolled back when the batch stopped.
+     */
+    public void setRolledBack() {
+        rolledBack = true;
+    }
+
+    /**
+     * Records that the transaction begun in the batch was still in progress when the batch ended.
+     */
+    public void setLeftOpen() {
+        leftOpen = true;
+    }
+
+    /**
+     * Returns the result of each command that was executed, in order.
+     */
+    public List<LineResult> getLineResults() {
+        return Collections.unmodifiableList(lineResults);
+    }
+
+    /**
+     * Returns the number of commands in the batch, including any that were not executed.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getSuccessCount() {
+        return lineResults.size() - failureCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /** Returns true if every command in the batch was executed. */
+    public boolean isComplete() {
+        return lineResults.size() == commandCount;
+    }
+
+    /** Returns true if the transaction begun in the batch was rolled back when the batch stopped. */
+    public boolean isRolledBack() {
+        return rolledBack;
+    }
+
+    /** Returns true if the transaction begun in the batch was still in progress when the batch ended. */
+    public boolean isLeftOpen() {
+        return leftOpen;
+    }
+
+    /** Returns true if any command that succeeded asked for the application to hard refresh. */
+    public boolean isRefresh() {
+        return refresh;
+    }
+
+    /**
+     * Returns a summary of the batch for display, with the line number and error message of each failed command.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_SUMMARY,
+                lineResults.size(), commandCount, getSuccessCount(), failureCount));
+        for (LineResult lineResult : lineResults) {
+            if (!lineResult.isSuccessful()) {
+                summary.append('\n').append(String.format(MESSAGE_LINE_FAILED,
+                        lineResult.getLineNumber(), lineResult.getCommandText(), lineResult.getMessage()));
+            }
+        }
+        if (rolledBack) {
+            summary.append('\n').append(MESSAGE_ROLLED_BACK);
+        }
+        if (leftOpen) {
+            summary.append('\n').append(MESSAGE_LEFT_OPEN);
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchResult)) {
+            return false;
+        }
+
+        BatchResult otherBatchResult = (BatchResult) other;
+        return lineResults.equals(otherBatchResult.lineResults)
+                && commandCount == otherBatchResult.commandCount
+                && rolledBack == otherBatchResult.rolledBack
+                && leftOpen == otherBatchResult.leftOpen;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineResults, commandCount, rolledBack, leftOpen);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("lineResults", lineResults)
+                .add("commandCount", commandCount)
+                .add("rolledBack", rolledBack)
+                .add("leftOpen", leftOpen)
+                .toString();
+    }
+
+    /**
+     * Represents the result of executing the command on one line of a batch.
+     */
+    public static class LineResult {
+        private final int lineNumber;
+        private final String commandText;
+        private final boolean isSuccessful;
+        private final String message;
+
+        /**
+         * Constructs a {@code LineResult} for the command {@code commandText} on line {@code lineNumber}, with the
+         * feedback of the command if it succeeded or its error message if it failed.
+         */
+        public LineResult(int lineNumber, String commandText, boolean isSuccessful, String message) {
+            requireNonNull(commandText);
+            requireNonNull(message);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.isSuccessful = isSuccessful;
+            this.message = message;
+        }
+
+        /** Returns the one-based number of the line in the batch. */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public boolean isSuccessful() {
+            return isSuccessful;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LineResult)) {
+                return false;
+            }
+
+            LineResult otherLineResult = (LineResult) other;
+            return lineNumber == otherLineResult.lineNumber
+                    && commandText.equals(otherLineResult.commandText)
+                    && isSuccessful == otherLineResult.isSuccessful
+                    && message.equals(otherLineResult.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, commandText, isSuccessful, message);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("lineNumber", lineNumber)
+                    .add("commandText", commandText)
+                    .add("isSuccessful", isSuccessful)
+                    .add("message", message)
+                    .toString();
+        }
+    }
+}
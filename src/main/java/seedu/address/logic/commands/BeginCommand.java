@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Begins a transaction, so that the changes made by the commands that follow are only saved once they are committed,
+ * and can be undone together until then.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Begins a transaction. The changes made by the "
+            + "commands that follow are only saved after \"" + CommitCommand.COMMAND_WORD + "\", "
+            + "and are discarded by \"" + RollbackCommand.COMMAND_WORD + "\".";
+
+    public static final String MESSAGE_HINT = "Use \"begin\" to begin a transaction.";
+
+    public static final String MESSAGE_SUCCESS = "Transaction begun. Enter \"" + CommitCommand.COMMAND_WORD
+            + "\" to apply its changes or \"" + RollbackCommand.COMMAND_WORD + "\" to discard them.";
+
+    public static final String MESSAGE_ALREADY_IN_TRANSACTION = "A transaction is already in progress";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_ALREADY_IN_TRANSACTION);
+        }
+
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Applies the changes made in the transaction in progress.
+ */
+public class CommitCommand extends Command {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Applies and saves the changes made since \""
+            + BeginCommand.COMMAND_WORD + "\".";
+
+    public static final String MESSAGE_HINT = "Use \"commit\" to apply the changes made in a transaction.";
+
+    public static final String MESSAGE_SUCCESS = "Transaction committed.";
+
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress. Enter \""
+            + BeginCommand.COMMAND_WORD + "\" to begin one.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+
+        model.commitTransaction();
+        return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Discards the changes made in the transaction in progress.
+ */
+public class RollbackCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Discards the changes made since \""
+            + BeginCommand.COMMAND_WORD + "\".";
+
+    public static final String MESSAGE_HINT = "Use \"rollback\" to discard the changes made in a transaction.";
+
+    public static final String MESSAGE_SUCCESS = "Transaction rolled back.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(CommitCommand.MESSAGE_NO_TRANSACTION);
+        }
+
+        model.rollbackTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs each line of a script file as a command.
+ * The address book is saved once after the whole script has run, rather than after each of its commands.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    /** Lines starting with this are comments. */
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs each line of a script file as a command. "
+            + "Blank lines and lines starting with " + COMMENT_MARKER + " are skipped.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_ON_ERROR + "stop|continue]\n"
+            + "Example: " + COMMAND_WORD + " data/import.txt " + PREFIX_ON_ERROR + "continue";
+
+    public static final String MESSAGE_HINT = "Use \"run\" to run the commands in a script file.";
+
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script";
+    public static final String MESSAGE_CLEAR_IN_SCRIPT = "A script cannot clear data, as clearing needs confirmation";
+
+    private static final Logger logger = LogsCenter.getLogger(RunCommand.class);
+
+    /**
+     * What to do when a command in a batch fails.
+     */
+    public enum OnError {
+        /** Stop the batch, without executing the commands after the one that failed. */
+        STOP,
+        /** Continue with the next command. */
+        CONTINUE
+    }
+
+    private final Path scriptPath;
+    private final OnError onError;
+
+    /**
+     * Creates a RunCommand to run the commands in the file at {@code scriptPath}, handling failed commands as
+     * {@code onError} says.
+     */
+    public RunCommand(Path scriptPath, OnError onError) {
+        requireNonNull(scriptPath);
+        requireNonNull(onError);
+        this.scriptPath = scriptPath;
+        this.onError = onError;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> commandLines;
+        try {
+            commandLines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, scriptPath, ioe.getMessage()), ioe);
+        }
+
+        BatchResult batchResult = executeLines(model, commandLines, onError);
+        return new CommandResult(batchResult.getSummary(), false, false, batchResult.isRefresh());
+    }
+
+    /**
+     * Parses and executes each of {@code commandLines} on {@code model} in order, skipping blank lines and comments.
+     * Clear commands are rejected, as their confirmation would otherwise take the next line as its answer.
+     * The flags of the results of the commands, other than the refresh flag, are ignored.
+     * If the batch stops at a failed command during a transaction that it began, the transaction is rolled back.
+     * If a transaction that the batch began is still in progress when the batch ends otherwise, the result says so.
+     * Nothing is saved; saving the changes made is left to the caller.
+     */
+    public static BatchResult executeLines(Model model, List<String> commandLines, OnError onError) {
+        requireNonNull(model);
+        requireNonNull(commandLines);
+        requireNonNull(onError);
+
+        int commandCount = 0;
+        for (String commandLine : commandLines) {
+            if (isCommand(commandLine)) {
+                commandCount++;
+            }
+        }
+
+        boolean wasInTransaction = model.isInTransaction();
+        AddressBookParser parser = new AddressBookParser();
+        BatchResult batchResult = new BatchResult(commandCount);
+        for (int i = 0; i < commandLines.size(); i++) {
+            String commandLine = commandLines.get(i);
+            if (!isCommand(commandLine)) {
+                continue;
+            }
+
+            logger.fine("Running line " + (i + 1) + ": " + commandLine);
+            try {
+                Command command = parser.parseCommand(commandLine);
+                if (command instanceof RunCommand) {
+                    throw new CommandException(MESSAGE_NESTED_RUN);
+                }
+                if (command instanceof ClearCommand) {
+                    throw new CommandException(MESSAGE_CLEAR_IN_SCRIPT);
+                }
+                batchResult.addSuccess(i + 1, commandLine, command.execute(model));
+            } catch (ParseException | CommandException e) {
+                batchResult.addFailure(i + 1, commandLine, e.getMessage());
+                if (onError == OnError.STOP) {
+                    rollBackTransactionBegunInBatch(model, wasInTransaction, batchResult);
+                    break;
+                }
+            }
+        }
+        if (!wasInTransaction && model.isInTransaction()) {
+            batchResult.setLeftOpen();
+        }
+        return batchResult;
+    }
+
+    /**
+     * Rolls back the transaction in progress if it was begun by the batch, so that a batch that stops at a failed
+     * command leaves none of the changes made in its transaction.
+     */
+    private static void rollBackTransactionBegunInBatch(Model model, boolean wasInTransaction,
+            BatchResult batchResult) {
+        if (!wasInTransaction && model.isInTransaction()) {
+            model.rollbackTransaction();
+            batchResult.setRolledBack();
+        }
+    }
+
+    private static boolean isCommand(String commandLine) {
+        String trimmedLine = commandLine.trim();
+        return !trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENT_MARKER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath)
+                && onError == otherRunCommand.onError;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("onError", onError)
+                .toString();
+    }
+}
@@ -100,7 +100,7 @@ public class EditEventCommand extends EditCommand {
         DateTime updatedStartTime = editEventDescriptor.getStartTime().orElse(eventToEdit.getStartTime());
         Set<Tag> updatedTags = editEventDescriptor.getTags().orElse(eventToEdit.getTags());
 
-        return new Event(updatedName, updatedAddress, updatedStartTime, updatedTags);
+        return new Event(eventToEdit.getId(), updatedName, updatedAddress, updatedStartTime, updatedTags);
     }
 
     @Override
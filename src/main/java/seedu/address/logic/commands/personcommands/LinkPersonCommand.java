@@ -70,35 +70,11 @@ public class LinkPersonCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
-        personToLink = copyPerson(personToLink);
-        eventToLink = copyEvent(eventToLink);
-
         model.linkPersonToEvent(personToLink, eventToLink);
 
         return new CommandResult(String.format(MESSAGE_LINK_SUCCESS, Messages.format(eventToLink)), false, false, true);
     }
 
-    /**
-     * Creates and returns a {@code Person} with the details of {@code person}
-     */
-    public Person copyPerson(Person person) {
-        return new Person(person.getName(),
-                person.getPhone(),
-                person.getEmail(),
-                person.getAddress(),
-                person.getTags());
-    }
-
-    /**
-     * Creates and returns a {@code Event} with the details of {@code event}
-     */
-    public Event copyEvent(Event event) {
-        return new Event(event.getName(),
-                event.getLocation(),
-                event.getStartTime(),
-                event.getTags());
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
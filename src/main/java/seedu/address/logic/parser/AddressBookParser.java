@@ -1,22 +1,24 @@
 package seedu.address.logic.parser;
 
-import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.eventcommands.AddEventCommand;
 import seedu.address.logic.commands.eventcommands.ClearEventCommand;
@@ -40,12 +42,46 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final ClearCommandParser CLEAR_COMMAND_PARSER = new ClearCommandParser();
+
     /**
-     * Used for initial separation of command word and args.
+     * The commands that can be parsed, and their usages.
+     * Commands sharing the first letters of their command words are hinted in the order they are registered here.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile(
-        "(?<commandWord>\\S+)(?<combined>\\s+(?<modelType>\\S+)?(?<arguments>.*)?)?"
-    );
+    private static final CommandRegistry COMMANDS = new CommandRegistry()
+            .register(AddPersonCommand.COMMAND_WORD, new AddCommandParser(),
+                    AddCommand.MESSAGE_USAGE, AddPersonCommand.MESSAGE_USAGE, AddEventCommand.MESSAGE_USAGE)
+            .register(EditPersonCommand.COMMAND_WORD, new EditCommandParser(),
+                    EditCommand.MESSAGE_USAGE, EditPersonCommand.MESSAGE_USAGE, EditEventCommand.MESSAGE_USAGE)
+            .register(ExitCommand.COMMAND_WORD, (modelType, arguments) -> new ExitCommand(),
+                    ExitCommand.MESSAGE_USAGE, ExitCommand.MESSAGE_USAGE)
+            .register(DeletePersonCommand.COMMAND_WORD, new DeleteCommandParser(),
+                    DeleteCommand.MESSAGE_USAGE, DeletePersonCommand.MESSAGE_USAGE, DeleteEventCommand.MESSAGE_USAGE)
+            .register(ClearCommand.COMMAND_WORD, CLEAR_COMMAND_PARSER,
+                    ClearCommand.MESSAGE_USAGE, ClearPersonCommand.MESSAGE_USAGE, ClearEventCommand.MESSAGE_USAGE)
+            .register(FindPersonCommand.COMMAND_WORD, new FindCommandParser(),
+                    FindCommand.MESSAGE_USAGE, FindPersonCommand.MESSAGE_USAGE, FindEventCommand.MESSAGE_USAGE)
+            .register(SearchPersonCommand.COMMAND_WORD, new SearchCommandParser(),
+                    SearchCommand.MESSAGE_USAGE, SearchPersonCommand.MESSAGE_USAGE, SearchEventCommand.MESSAGE_USAGE)
+            .register(ScheduleCommand.COMMAND_WORD, new ScheduleCommandParser(),
+                    ScheduleCommand.MESSAGE_USAGE, ScheduleCommand.MESSAGE_HINT)
+            .register(ListCommand.COMMAND_WORD, (modelType, arguments) -> new ListCommand(),
+                    ListCommand.MESSAGE_USAGE, ListCommand.MESSAGE_USAGE)
+            .register(LinkPersonCommand.COMMAND_WORD, new LinkCommandParser(),
+                    LinkPersonCommand.MESSAGE_USAGE, LinkPersonCommand.MESSAGE_HINT)
+            .register(UnlinkPersonCommand.COMMAND_WORD, new UnlinkCommandParser(),
+                    UnlinkPersonCommand.MESSAGE_USAGE, UnlinkPersonCommand.MESSAGE_HINT)
+            .register(RunCommand.COMMAND_WORD, new RunCommandParser(),
+                    RunCommand.MESSAGE_USAGE, RunCommand.MESSAGE_HINT)
+            .register(BeginCommand.COMMAND_WORD, (modelType, arguments) -> new BeginCommand(),
+                    BeginCommand.MESSAGE_USAGE, BeginCommand.MESSAGE_HINT)
+            .register(CommitCommand.COMMAND_WORD, (modelType, arguments) -> new CommitCommand(),
+                    CommitCommand.MESSAGE_USAGE, CommitCommand.MESSAGE_HINT)
+            .register(RollbackCommand.COMMAND_WORD, (modelType, arguments) -> new RollbackCommand(),
+                    RollbackCommand.MESSAGE_USAGE, RollbackCommand.MESSAGE_HINT)
+            .register(HelpCommand.COMMAND_WORD, (modelType, arguments) -> new HelpCommand(),
+                    HelpCommand.MESSAGE_USAGE, HelpCommand.MESSAGE_USAGE);
+
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
     /**
@@ -60,71 +96,28 @@ public class AddressBookParser {
         if (ClearCommand.isPrompted()) {
             String trimmedInput = userInput.trim();
             if (trimmedInput.equals("Y") || trimmedInput.equals("Yes")) {
-                return new ClearCommandParser().parseClear();
+                return CLEAR_COMMAND_PARSER.parseClear();
             } else {
-                return new ClearCommandParser().parseAbort();
+                return CLEAR_COMMAND_PARSER.parseAbort();
             }
         }
 
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = matcher.group("commandWord");
-        final String modelTypeShortHand = matcher.group("modelType");
-        final ModelType modelType = ModelType.fromShorthand(modelTypeShortHand);
-        final String arguments = (modelType == ModelType.NEITHER)
-                ? matcher.group("combined")
-                : matcher.group("arguments");
+        final CommandHead head = CommandHead.tokenize(userInput);
+        final String commandWord = head.getCommandWord();
+        final ModelType modelType = head.getModelType();
+        final String arguments = head.getArguments();
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Model Type: " + modelType + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddPersonCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(modelType, arguments);
-
-        case EditPersonCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(modelType, arguments);
-
-        case DeletePersonCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(modelType, arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(modelType, arguments);
-
-        case FindPersonCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(modelType, arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SearchPersonCommand.COMMAND_WORD:
-            return new SearchCommandParser().parse(modelType, arguments);
-
-        case ScheduleCommand.COMMAND_WORD:
-            return new ScheduleCommandParser().parse(modelType, arguments);
-
-        case LinkPersonCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(modelType, arguments);
-
-        case UnlinkPersonCommand.COMMAND_WORD:
-            return new UnlinkCommandParser().parse(modelType, arguments);
-
-        default:
+        Optional<Parser<?>> parser = COMMANDS.getParser(commandWord);
+        if (parser.isEmpty()) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.get().parse(modelType, arguments);
     }
 
     /**
@@ -134,113 +127,6 @@ public class AddressBookParser {
      * @return Usage information as a hint for the user.
      */
     public String getHint(String userInput) {
-        userInput = userInput.strip(); // Trim any leading or trailing whitespace
-
-        switch (userInput.charAt(0)) {
-        case 'a':
-            return getAddHint(userInput);
-        case 'd':
-            return getDeleteHint(userInput);
-        case 'e':
-            if (userInput.startsWith("ed")) {
-                return getEditHint(userInput);
-            } else if (userInput.startsWith("ex")) {
-                return ExitCommand.MESSAGE_USAGE;
-            } else {
-                return EditCommand.MESSAGE_USAGE + "\n" + ExitCommand.MESSAGE_USAGE;
-            }
-        case 'f':
-            return getFindHint(userInput);
-        case 's':
-            if (userInput.startsWith("se")) {
-                return getSearchHint(userInput);
-            } else if (userInput.startsWith("sc")) {
-                return ScheduleCommand.MESSAGE_USAGE;
-            } else {
-                return SearchCommand.MESSAGE_USAGE + "\n" + ScheduleCommand.MESSAGE_HINT;
-            }
-        case 'l':
-            if (userInput.startsWith("lis")) {
-                return ListCommand.MESSAGE_USAGE;
-            } else if (userInput.startsWith("lin")) {
-                return LinkPersonCommand.MESSAGE_USAGE;
-            } else {
-                return ListCommand.MESSAGE_USAGE + "\n" + LinkPersonCommand.MESSAGE_HINT;
-            }
-        case 'u':
-            return UnlinkPersonCommand.MESSAGE_USAGE;
-        case 'c':
-            return getClearHint(userInput);
-        default:
-            return HelpCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getAddHint(String userInput) {
-        if (userInput.startsWith("add e")) {
-            return AddEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("add p")) {
-            return AddPersonCommand.MESSAGE_USAGE;
-        } else {
-            return AddCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getDeleteHint(String userInput) {
-        if (userInput.startsWith("delete e")) {
-            return DeleteEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("delete p")) {
-            return DeletePersonCommand.MESSAGE_USAGE;
-        } else {
-            return DeleteCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getEditHint(String userInput) {
-        if (userInput.startsWith("edit e")) {
-            return EditEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("edit p")) {
-            return EditPersonCommand.MESSAGE_USAGE;
-        } else {
-            return EditCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getFindHint(String userInput) {
-        if (userInput.startsWith("find e")) {
-            return FindEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("find p")) {
-            return FindPersonCommand.MESSAGE_USAGE;
-        } else {
-            return FindCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getSearchHint(String userInput) {
-        if (userInput.startsWith("search e")) {
-            return SearchEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("search p")) {
-            return SearchPersonCommand.MESSAGE_USAGE;
-        } else {
-            return SearchCommand.MESSAGE_USAGE;
-        }
-    }
-
-    private String getClearHint(String userInput) {
-        if (userInput.startsWith("clear e")) {
-            return ClearEventCommand.MESSAGE_USAGE;
-        } else if (userInput.startsWith("clear p")) {
-            return ClearPersonCommand.MESSAGE_USAGE;
-        } else {
-            return ClearCommand.MESSAGE_USAGE;
-        }
-    }
-
-    /**
-     * For testing of the regex
-     */
-    public Pattern getParserRegex() {
-        return BASIC_COMMAND_FORMAT;
+        return COMMANDS.getHint(userInput).orElse(HelpCommand.MESSAGE_USAGE);
     }
-
 }
@@ -13,5 +13,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_START_TIME = new Prefix("s/");
     public static final Prefix PREFIX_EVENT = new Prefix("ev/");
+    public static final Prefix PREFIX_ON_ERROR = new Prefix("onerror/");
 
 }
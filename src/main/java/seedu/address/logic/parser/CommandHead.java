@@ -0,0 +1,117 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The command word and model type at the head of a command, and the arguments that follow them.
+ * The head is read in a single scan of the input: the command word is everything up to the first whitespace, and the
+ * next word is taken as the model type if it is the shorthand of one, or left in the arguments otherwise.
+ */
+class CommandHead {
+
+    private static final ModelType[] MODEL_TYPES = ModelType.values();
+
+    private final String commandWord;
+    private final ModelType modelType;
+    private final String arguments;
+
+    private CommandHead(String commandWord, ModelType modelType, String arguments) {
+        this.commandWord = commandWord;
+        this.modelType = modelType;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Reads the head of {@code userInput}.
+     * The arguments keep their leading whitespace, and are empty if there are none.
+     *
+     * @throws ParseException if {@code userInput} is blank, or has a line break after its model type.
+     */
+    static CommandHead tokenize(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        String input = userInput.trim();
+        int length = input.length();
+
+        int commandWordEnd = skipWord(input, 0);
+        if (commandWordEnd == 0) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
+        int nextWordStart = skipWhitespace(input, commandWordEnd);
+        int nextWordEnd = skipWord(input, nextWordStart);
+        for (int i = nextWordEnd; i < length; i++) {
+            if (isLineTerminator(input.charAt(i))) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+        }
+
+        String commandWord = input.substring(0, commandWordEnd);
+        ModelType modelType = findModelType(input, nextWordStart, nextWordEnd);
+        String arguments = modelType == ModelType.NEITHER
+                ? input.substring(commandWordEnd)
+                : input.substring(nextWordEnd);
+        return new CommandHead(commandWord, modelType, arguments);
+    }
+
+    String getCommandWord() {
+        return commandWord;
+    }
+
+    ModelType getModelType() {
+        return modelType;
+    }
+
+    String getArguments() {
+        return arguments;
+    }
+
+    /**
+     * Returns the model type whose shorthand is {@code input} from {@code start} to {@code end}, or
+     * {@code ModelType.NEITHER} if there is none.
+     */
+    private static ModelType findModelType(String input, int start, int end) {
+        for (ModelType modelType : MODEL_TYPES) {
+            String shorthand = modelType.getShorthand();
+            if (shorthand.length() == end - start && input.regionMatches(start, shorthand, 0, shorthand.length())) {
+                return modelType;
+            }
+        }
+        return ModelType.NEITHER;
+    }
+
+    /**
+     * Returns the index of the first whitespace character in {@code input} at or after {@code from}.
+     */
+    static int skipWord(String input, int from) {
+        int i = from;
+        while (i < input.length() && !isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(String input, int from) {
+        int i = from;
+        while (i < input.length() && isWhitespace(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns true if {@code c} separates words, as {@code \s} does in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} ends a line. A command is a single line, as it is typed into the command box.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
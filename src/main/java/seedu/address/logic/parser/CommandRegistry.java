@@ -0,0 +1,136 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps each command word to the parser for its commands and to the usage shown as a hint while it is typed.
+ * Parsers are shared by every command parsed with the registry, so they must not keep state between parses.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Registers {@code parser} for commands starting with {@code commandWord}.
+     * {@code usage} is shown while {@code commandWord} is the only command being typed, and {@code hint} while it is
+     * one of several, after the usage of the first of them to be registered.
+     *
+     * @return this registry, for chaining.
+     */
+    public CommandRegistry register(String commandWord, Parser<?> parser, String usage, String hint) {
+        return register(new Entry(commandWord, parser, usage, usage, usage, hint));
+    }
+
+    /**
+     * Registers {@code parser} for commands starting with {@code commandWord}, which act on either persons or events
+     * depending on the model type that follows it.
+     * {@code personUsage} and {@code eventUsage} are shown once the model type is typed, and {@code usage} before.
+     *
+     * @return this registry, for chaining.
+     */
+    public CommandRegistry register(String commandWord, Parser<?> parser, String usage, String personUsage,
+            String eventUsage) {
+        return register(new Entry(commandWord, parser, usage, personUsage, eventUsage, usage));
+    }
+
+    private CommandRegistry register(Entry entry) {
+        if (entries.putIfAbsent(entry.commandWord, entry) != null) {
+            throw new IllegalArgumentException("Command word is already registered: " + entry.commandWord);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, if any.
+     */
+    public Optional<Parser<?>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        Entry entry = entries.get(commandWord);
+        return entry == null ? Optional.empty() : Optional.of(entry.parser);
+    }
+
+    /**
+     * Returns the usage of the commands that {@code userInput} may be the start of, or an empty {@code Optional} if
+     * it is blank or does not start any registered command.
+     */
+    public Optional<String> getHint(String userInput) {
+        requireNonNull(userInput);
+        String input = userInput.strip();
+        int wordEnd = CommandHead.skipWord(input, 0);
+        if (wordEnd == 0) {
+            return Optional.empty();
+        }
+
+        String word = input.substring(0, wordEnd);
+        List<Entry> matches = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (entry.commandWord.startsWith(word)) {
+                matches.add(entry);
+            }
+        }
+        if (matches.isEmpty()) {
+            return Optional.empty();
+        }
+        if (matches.size() == 1) {
+            Entry entry = matches.get(0);
+            return Optional.of(entry.commandWord.equals(word)
+                    ? entry.getUsage(input.substring(wordEnd))
+                    : entry.usage);
+        }
+
+        StringBuilder hint = new StringBuilder(matches.get(0).usage);
+        for (Entry entry : matches.subList(1, matches.size())) {
+            hint.append('\n').append(entry.hint);
+        }
+        return Optional.of(hint.toString());
+    }
+
+    /**
+     * A registered command word with its parser and usages.
+     */
+    private static class Entry {
+        private final String commandWord;
+        private final Parser<?> parser;
+        private final String usage;
+        private final String personUsage;
+        private final String eventUsage;
+        private final String hint;
+
+        private Entry(String commandWord, Parser<?> parser, String usage, String personUsage, String eventUsage,
+                String hint) {
+            requireNonNull(commandWord);
+            requireNonNull(parser);
+            requireNonNull(usage);
+            requireNonNull(personUsage);
+            requireNonNull(eventUsage);
+            requireNonNull(hint);
+            this.commandWord = commandWord;
+            this.parser = parser;
+            this.usage = usage;
+            this.personUsage = personUsage;
+            this.eventUsage = eventUsage;
+            this.hint = hint;
+        }
+
+        /**
+         * Returns the usage to show when the command word is followed by {@code rest}.
+         */
+        private String getUsage(String rest) {
+            if (rest.startsWith(" " + ModelType.EVENT.getShorthand())) {
+                return eventUsage;
+            } else if (rest.startsWith(" " + ModelType.PERSON.getShorthand())) {
+                return personUsage;
+            } else {
+                return usage;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.OnError;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    public static final String MESSAGE_INVALID_ON_ERROR = "The value of " + PREFIX_ON_ERROR
+            + " should be either stop or continue";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(ModelType modelType, String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ON_ERROR);
+        String filePath = argMultimap.getPreamble();
+        if (modelType != ModelType.NEITHER || filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ON_ERROR);
+
+        Path scriptPath;
+        try {
+            scriptPath = Paths.get(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ipe);
+        }
+
+        return new RunCommand(scriptPath, parseOnError(argMultimap.getValue(PREFIX_ON_ERROR)));
+    }
+
+    /**
+     * Parses the value of {@code PREFIX_ON_ERROR}, stopping on errors if it is absent.
+     * @throws ParseException if the value is not the name of an {@code OnError}
+     */
+    private static OnError parseOnError(Optional<String> value) throws ParseException {
+        if (value.isEmpty()) {
+            return OnError.STOP;
+        }
+        for (OnError onError : OnError.values()) {
+            if (onError.name().equalsIgnoreCase(value.get())) {
+                return onError;
+            }
+        }
+        throw new ParseException(MESSAGE_INVALID_ON_ERROR);
+    }
+}
@@ -3,10 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -15,8 +19,10 @@ import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.PersonEventManager;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.event.UniqueEventList;
+import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.person.Person;
 import seedu.address.model.types.person.UniquePersonList;
+import seedu.address.model.types.person.exceptions.DuplicatePersonException;
 
 /**
  * Wraps all data at the address-book level
@@ -30,6 +36,10 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private PersonEventManager personEventManager;
 
+    private long version;
+
+    private ChangeLog changeLog = ChangeLog.start();
+
     /**
      * Creates an AddressBook
      */
@@ -55,6 +65,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        startChangeLog();
     }
 
     /**
@@ -63,6 +74,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        startChangeLog();
     }
 
     /**
@@ -71,17 +83,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersonEventManager(PersonEventManager personEventManager) {
         this.personEventManager = personEventManager;
+        startChangeLog();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The change log of {@code newData} is taken over too, as it led to the same contents.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setEvents(newData.getEventList());
-        setPersonEventManager(newData.getPersonEventManager());
+        replaceContents(newData.getPersonList(), newData.getEventList(),
+                new PersonEventManager(newData.getPersonEventManager()));
+        changeLog = newData.getChangeLog();
+    }
+
+    /**
+     * Replaces all data in this {@code AddressBook}, publishing a single change to each observable list.
+     * {@code persons} and {@code events} must not contain duplicates.
+     */
+    private void replaceContents(List<Person> persons, List<Event> events, PersonEventManager personEventManager) {
+        this.persons.setPersons(persons);
+        this.events.setEvents(events);
+        this.personEventManager = personEventManager;
+        version++;
     }
 
     /**
@@ -89,8 +114,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void clearEvents(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setEvents(newData.getEventList());
+        events.setEvents(newData.getEventList());
         personEventManager.clearAllEvents();
+        recordChange(AddressBookChange.clearEvents());
+        for (Event event : newData.getEventList()) {
+            recordChange(AddressBookChange.putEvent(event));
+        }
     }
 
     /**
@@ -98,8 +127,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void clearPersons(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setPersons(newData.getPersonList());
+        persons.setPersons(newData.getPersonList());
         personEventManager.clearAllPersons();
+        recordChange(AddressBookChange.clearPersons());
+        for (Person person : newData.getPersonList()) {
+            recordChange(AddressBookChange.putPerson(person));
+        }
     }
 
     //// person-level operations
@@ -118,6 +151,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        recordChange(AddressBookChange.putPerson(p));
+    }
+
+    /**
+     * Inserts a person into the person list at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+        recordChange(AddressBookChange.putPerson(p));
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOfPerson(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
     }
 
     /**
@@ -128,8 +179,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        Set<Event> linkedEvents = personEventManager.getEventsForPerson(target);
         persons.setPerson(target, editedPerson);
         personEventManager.setPersonForAllEvents(target, editedPerson);
+        if (target.getId() != editedPerson.getId()) {
+            recordChange(AddressBookChange.removePerson(target.getId()));
+        }
+        recordChange(AddressBookChange.putPerson(editedPerson));
+        if (target.getId() != editedPerson.getId()) {
+            for (Event event : linkedEvents) {
+                recordChange(AddressBookChange.link(editedPerson.getId(), event.getId()));
+            }
+        }
     }
 
     /**
@@ -139,6 +200,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removePerson(Person key) {
         persons.remove(key);
         personEventManager.removePersonFromAllEvents(key);
+        recordChange(AddressBookChange.removePerson(key.getId()));
     }
 
     /**
@@ -146,7 +208,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isPersonLinkedToEvent(Person person, Event event) {
         requireAllNonNull(person, event);
-        return personEventManager.isPersonLinkedToEvent(person, event);
+        return personEventManager.isPersonLinkedToEvent(resolvePerson(person), resolveEvent(event));
     }
 
     /**
@@ -154,7 +216,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void linkPersonToEvent(Person person, Event event) {
         requireAllNonNull(person, event);
-        personEventManager.addPersonToEvent(person, event);
+        Person storedPerson = resolvePerson(person);
+        Event storedEvent = resolveEvent(event);
+        personEventManager.addPersonToEvent(storedPerson, storedEvent);
+        recordChange(AddressBookChange.link(storedPerson.getId(), storedEvent.getId()));
     }
 
     /**
@@ -162,7 +227,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void unlinkPersonFromEvent(Person person, Event event) {
         requireAllNonNull(person, event);
-        personEventManager.removePersonFromEvent(person, event);
+        Person storedPerson = resolvePerson(person);
+        Event storedEvent = resolveEvent(event);
+        personEventManager.removePersonFromEvent(storedPerson, storedEvent);
+        recordChange(AddressBookChange.unlink(storedPerson.getId(), storedEvent.getId()));
     }
 
     //// event-level operations
@@ -182,6 +250,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addEvent(Event e) {
         events.add(e);
         personEventManager.addEvent(e);
+        recordChange(AddressBookChange.putEvent(e));
     }
 
     /**
@@ -192,8 +261,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
 
+        Set<Person> linkedPersons = personEventManager.getPersonsForEvent(target);
         events.setEvent(target, editedEvent);
         personEventManager.setEvent(target, editedEvent);
+        if (target.getId() != editedEvent.getId()) {
+            recordChange(AddressBookChange.removeEvent(target.getId()));
+        }
+        recordChange(AddressBookChange.putEvent(editedEvent));
+        if (target.getId() != editedEvent.getId()) {
+            for (Person person : linkedPersons) {
+                recordChange(AddressBookChange.link(person.getId(), editedEvent.getId()));
+            }
+        }
     }
 
     /**
@@ -203,6 +282,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeEvent(Event key) {
         events.remove(key);
         personEventManager.removeEvent(key);
+        recordChange(AddressBookChange.removeEvent(key.getId()));
     }
 
     /**
@@ -210,12 +290,47 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Event getEventByName(Name name) {
         requireNonNull(name);
-        for (Event e : events) {
-            if (e.getName().equals(name)) {
-                return e;
-            }
-        }
-        return null;
+        return events.getEventByName(name);
+    }
+
+    /**
+     * Returns the persons with a name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsNamedWith(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.getPersonsNamedWith(keywords);
+    }
+
+    /**
+     * Returns the events with a name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Event> getEventsNamedWith(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return events.getEventsNamedWith(keywords);
+    }
+
+    /**
+     * Returns the persons with a tag name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsTaggedWith(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.getPersonsTaggedWith(keywords);
+    }
+
+    /**
+     * Returns the events with a tag name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Event> getEventsTaggedWith(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return events.getEventsTaggedWith(keywords);
+    }
+
+    /**
+     * Returns the events that start between {@code start} and {@code end}, both inclusive.
+     */
+    public List<Event> getEventsStartingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return events.getEventsStartingBetween(start, end);
     }
 
     /** Resorts Events */
@@ -227,7 +342,34 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a linked persons entry to the personEventManager.
      */
     public void addLinkedPersonsEntry(LinkedPersonsEntry linkedPersonsEntry) {
-        personEventManager.addLinkedPersonsEntry(linkedPersonsEntry);
+        ArrayList<Person> linkedPersons = new ArrayList<>();
+        for (Person person : linkedPersonsEntry.getPersons()) {
+            linkedPersons.add(resolvePerson(person));
+        }
+        Event event = resolveEvent(linkedPersonsEntry.getEvent());
+        personEventManager.addLinkedPersonsEntry(new LinkedPersonsEntry(event, linkedPersons));
+        for (Person person : linkedPersons) {
+            recordChange(AddressBookChange.link(person.getId(), event.getId()));
+        }
+    }
+
+    /**
+     * Returns the person stored in this address book with the same identity as {@code person},
+     * or {@code person} itself if there is none.
+     * Links are kept by id, so copies of a person must be resolved to the stored person first.
+     */
+    private Person resolvePerson(Person person) {
+        Person storedPerson = persons.getPersonByName(person.getName());
+        return storedPerson == null ? person : storedPerson;
+    }
+
+    /**
+     * Returns the event stored in this address book with the same identity as {@code event},
+     * or {@code event} itself if there is none.
+     */
+    private Event resolveEvent(Event event) {
+        Event storedEvent = events.getEventByName(event.getName());
+        return storedEvent == null ? event : storedEvent;
     }
 
     //// util methods
@@ -255,6 +397,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         return personEventManager;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
+    /**
+     * Records {@code change}, which has just been made, in the change log and moves on to the next version.
+     */
+    private void recordChange(AddressBookChange change) {
+        changeLog = changeLog.record(change);
+        version++;
+    }
+
+    /**
+     * Starts a new change log after a change that is not recorded, e.g. replacing a whole list, and moves on to the
+     * next version.
+     */
+    private void startChangeLog() {
+        changeLog = ChangeLog.start();
+        version++;
+    }
+
     /**
      * Returns the list of linked persons entries.
      */
@@ -284,10 +453,119 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     public void removePersonFromAllEvents(Person person) {
+        Set<Event> linkedEvents = personEventManager.getEventsForPerson(person);
         personEventManager.removePersonFromAllEvents(person);
+        for (Event event : linkedEvents) {
+            recordChange(AddressBookChange.unlink(person.getId(), event.getId()));
+        }
     }
 
-    public Map<Event, ArrayList<Person>> getPersonEventAssociationMap() {
-        return personEventManager.getEventPersonMap();
+    /**
+     * Returns the events that {@code person} is linked to.
+     */
+    public Set<Event> getLinkedEvents(Person person) {
+        requireNonNull(person);
+        return personEventManager.getEventsForPerson(resolvePerson(person));
+    }
+
+    /**
+     * Returns the persons linked to {@code event}.
+     */
+    public Set<Person> getLinkedPersons(Event event) {
+        requireNonNull(event);
+        return personEventManager.getPersonsForEvent(resolveEvent(event));
+    }
+
+    /**
+     * Collects the contents of an address book, e.g. while loading it from storage, and builds it in one step.
+     * Unlike adding each record to an {@code AddressBook}, which keeps its lists ordered and publishes a change
+     * per record, the records are only checked for duplicates as they are added. The events are sorted once and
+     * each list is published in a single change when the address book is built.
+     */
+    public static class Builder {
+
+        private final List<Person> persons = new ArrayList<>();
+        private final Map<Name, Person> personsByName = new HashMap<>();
+        private final List<Event> events = new ArrayList<>();
+        private final Map<Name, Event> eventsByName = new HashMap<>();
+        private final List<LinkedPersonsEntry> linkedPersonsEntries = new ArrayList<>();
+
+        /**
+         * Returns true if a person with the same identity as {@code person} has been added.
+         */
+        public boolean hasPerson(Person person) {
+            requireNonNull(person);
+            return personsByName.containsKey(person.getName());
+        }
+
+        /**
+         * Adds a person to the address book being built.
+         *
+         * @throws DuplicatePersonException if a person with the same identity has already been added.
+         */
+        public Builder addPerson(Person person) {
+            requireNonNull(person);
+            if (personsByName.putIfAbsent(person.getName(), person) != null) {
+                throw new DuplicatePersonException();
+            }
+            persons.add(person);
+            return this;
+        }
+
+        /**
+         * Returns true if an event with the same identity as {@code event} has been added.
+         */
+        public boolean hasEvent(Event event) {
+            requireNonNull(event);
+            return eventsByName.containsKey(event.getName());
+        }
+
+        /**
+         * Adds an event to the address book being built.
+         *
+         * @throws DuplicateEventException if an event with the same identity has already been added.
+         */
+        public Builder addEvent(Event event) {
+            requireNonNull(event);
+            if (eventsByName.putIfAbsent(event.getName(), event) != null) {
+                throw new DuplicateEventException();
+            }
+            events.add(event);
+            return this;
+        }
+
+        /**
+         * Adds a linked persons entry to the address book being built.
+         * As in {@link AddressBook#addLinkedPersonsEntry(LinkedPersonsEntry)}, the event and persons in the entry
+         * are resolved to the added ones with the same identity when the address book is built.
+         */
+        public Builder addLinkedPersonsEntry(LinkedPersonsEntry linkedPersonsEntry) {
+            requireNonNull(linkedPersonsEntry);
+            linkedPersonsEntries.add(linkedPersonsEntry);
+            return this;
+        }
+
+        /**
+         * Returns a new {@code AddressBook} with the added contents.
+         */
+        public AddressBook build() {
+            PersonEventManager personEventManager = new PersonEventManager();
+            for (Event event : events) {
+                personEventManager.addEvent(event);
+            }
+            for (LinkedPersonsEntry linkedPersonsEntry : linkedPersonsEntries) {
+                ArrayList<Person> linkedPersons = new ArrayList<>();
+                for (Person person : linkedPersonsEntry.getPersons()) {
+                    linkedPersons.add(personsByName.getOrDefault(person.getName(), person));
+                }
+                Event event = linkedPersonsEntry.getEvent();
+                personEventManager.addLinkedPersonsEntry(
+                        new LinkedPersonsEntry(eventsByName.getOrDefault(event.getName(), event), linkedPersons));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.replaceContents(persons, events, personEventManager);
+            return addressBook;
+        }
     }
 }
@@ -0,0 +1,118 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * A single change made to an address book, as recorded in its {@link ChangeLog}.
+ * Persons and events that are removed, linked or unlinked are referred to by id.
+ */
+public final class AddressBookChange {
+
+    /**
+     * The kinds of changes that are recorded.
+     */
+    public enum Kind {
+        PUT_PERSON, REMOVE_PERSON, CLEAR_PERSONS, PUT_EVENT, REMOVE_EVENT, CLEAR_EVENTS, LINK, UNLINK
+    }
+
+    private final Kind kind;
+    private final Person person;
+    private final Event event;
+    private final long personId;
+    private final long eventId;
+
+    private AddressBookChange(Kind kind, Person person, Event event, long personId, long eventId) {
+        this.kind = kind;
+        this.person = person;
+        this.event = event;
+        this.personId = personId;
+        this.eventId = eventId;
+    }
+
+    /**
+     * Returns the change that adds {@code person}, or replaces the person with the same id.
+     */
+    public static AddressBookChange putPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Kind.PUT_PERSON, person, null, person.getId(), 0);
+    }
+
+    /**
+     * Returns the change that removes the person with id {@code personId} along with its links.
+     */
+    public static AddressBookChange removePerson(long personId) {
+        return new AddressBookChange(Kind.REMOVE_PERSON, null, null, personId, 0);
+    }
+
+    /**
+     * Returns the change that removes all persons along with their links.
+     */
+    public static AddressBookChange clearPersons() {
+        return new AddressBookChange(Kind.CLEAR_PERSONS, null, null, 0, 0);
+    }
+
+    /**
+     * Returns the change that adds {@code event}, or replaces the event with the same id.
+     */
+    public static AddressBookChange putEvent(Event event) {
+        requireNonNull(event);
+        return new AddressBookChange(Kind.PUT_EVENT, null, event, 0, event.getId());
+    }
+
+    /**
+     * Returns the change that removes the event with id {@code eventId} along with its links.
+     */
+    public static AddressBookChange removeEvent(long eventId) {
+        return new AddressBookChange(Kind.REMOVE_EVENT, null, null, 0, eventId);
+    }
+
+    /**
+     * Returns the change that removes all events along with their links.
+     */
+    public static AddressBookChange clearEvents() {
+        return new AddressBookChange(Kind.CLEAR_EVENTS, null, null, 0, 0);
+    }
+
+    /**
+     * Returns the change that links the person with id {@code personId} to the event with id {@code eventId}.
+     */
+    public static AddressBookChange link(long personId, long eventId) {
+        return new AddressBookChange(Kind.LINK, null, null, personId, eventId);
+    }
+
+    /**
+     * Returns the change that unlinks the person with id {@code personId} from the event with id {@code eventId}.
+     */
+    public static AddressBookChange unlink(long personId, long eventId) {
+        return new AddressBookChange(Kind.UNLINK, null, null, personId, eventId);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person put by a {@link Kind#PUT_PERSON} change, or null for any other kind.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the event put by a {@link Kind#PUT_EVENT} change, or null for any other kind.
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    public long getPersonId() {
+        return personId;
+    }
+
+    public long getEventId() {
+        return eventId;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.types.common.PersonEventManager;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * An immutable copy of the contents of an address book at one point in time, e.g. to be saved in the background
+ * while the address book goes on changing.
+ * Taking a snapshot only copies the persons, the events and the ids of the links between them, and keeps a reference
+ * to the change log, which is immutable, without building any of the indexes of an {@code AddressBook}.
+ * The links are only rebuilt, once, when they are first asked for.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final long[] linkIds;
+    private final long version;
+    private final ChangeLog changeLog;
+    private PersonEventManager personEventManager;
+
+    private AddressBookSnapshot(List<Person> persons, List<Event> events, long[] linkIds, long version,
+            ChangeLog changeLog) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.events = FXCollections.unmodifiableObservableList(FXCollections.observableList(events));
+        this.linkIds = linkIds;
+        this.version = version;
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new AddressBookSnapshot(List.copyOf(addressBook.getPersonList()),
+                List.copyOf(addressBook.getEventList()), addressBook.getPersonEventManager().toLinkIds(),
+                addressBook.getVersion(), addressBook.getChangeLog());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    /**
+     * Returns the links of the snapshot. The returned manager must not be modified.
+     */
+    @Override
+    public synchronized PersonEventManager getPersonEventManager() {
+        if (personEventManager == null) {
+            Map<Long, Person> personsById = new HashMap<>();
+            for (Person person : persons) {
+                personsById.put(person.getId(), person);
+            }
+            Map<Long, Event> eventsById = new HashMap<>();
+            for (Event event : events) {
+                eventsById.put(event.getId(), event);
+            }
+            personEventManager = PersonEventManager.fromLinkIds(linkIds, personsById, eventsById);
+        }
+        return personEventManager;
+    }
+
+    /**
+     * Returns the ids of the links of the snapshot, without rebuilding the links themselves.
+     */
+    @Override
+    public long[] getLinkIds() {
+        return linkIds;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+}
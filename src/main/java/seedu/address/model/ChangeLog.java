@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The changes that led to the current contents of an address book, so that storage can write what changed since it
+ * last saved without comparing the whole address book.
+ * A log is immutable. Recording a change returns a new log that shares the older changes, so a snapshot of an address
+ * book only needs a reference to its log. A log reaches back to where its address book was last replaced as a whole,
+ * and to at most {@value #MAX_LENGTH} changes. Storage has to save everything once it cannot reach back far enough.
+ */
+public final class ChangeLog {
+
+    /** The number of changes after which a log starts over, which bounds the changes an address book holds on to. */
+    static final int MAX_LENGTH = 4096;
+
+    private final Entry head;
+    private final int length;
+
+    private ChangeLog(Entry head, int length) {
+        this.head = head;
+        this.length = length;
+    }
+
+    /**
+     * Returns an empty log, which does not reach back to any other log.
+     */
+    public static ChangeLog start() {
+        return new ChangeLog(new Entry(null, null), 0);
+    }
+
+    /**
+     * Returns this log with {@code change} recorded after its other changes.
+     */
+    public ChangeLog record(AddressBookChange change) {
+        requireNonNull(change);
+        if (length == MAX_LENGTH) {
+            return start().record(change);
+        }
+        return new ChangeLog(new Entry(change, head), length + 1);
+    }
+
+    /**
+     * Returns the changes recorded in this log after {@code earlier}, in the order they were made, or an empty
+     * {@code Optional} if this log does not reach back to {@code earlier}.
+     */
+    public Optional<List<AddressBookChange>> getChangesSince(ChangeLog earlier) {
+        requireNonNull(earlier);
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (Entry entry = head; entry != earlier.head; entry = entry.previous) {
+            if (entry.previous == null) {
+                return Optional.empty();
+            }
+            changes.add(entry.change);
+        }
+        Collections.reverse(changes);
+        return Optional.of(changes);
+    }
+
+    /**
+     * A recorded change and the entry recorded before it. The first entry of a log records no change.
+     */
+    private static class Entry {
+        private final AddressBookChange change;
+        private final Entry previous;
+
+        private Entry(AddressBookChange change, Entry previous) {
+            this.change = change;
+            this.previous = previous;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} whose matches in an {@code AddressBook} can be looked up in the address book's indexes
+ * instead of by testing every element.
+ * The {@code Model} filters its lists with the looked-up matches, and uses {@link #test(Object)} only for elements
+ * that are added or edited while the filter is applied.
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns the elements of {@code addressBook} that satisfy this predicate.
+     */
+    Collection<T> lookUp(AddressBook addressBook);
+}
@@ -1,8 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -124,6 +123,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the filtered person list as it is displayed. It follows the filtered person list,
+     * except during a transaction, whose changes it only shows, in a single change, once the transaction is committed.
+     */
+    ObservableList<Person> getDisplayedPersonList();
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -162,6 +167,12 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered event list */
     ObservableList<Event> getFilteredEventList();
 
+    /**
+     * Returns an unmodifiable view of the filtered event list as it is displayed. It follows the filtered event list,
+     * except during a transaction, whose changes it only shows, in a single change, once the transaction is committed.
+     */
+    ObservableList<Event> getDisplayedEventList();
+
     /**
      * Updates the filter of the filtered event list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -172,7 +183,31 @@ public interface Model {
     void reSortEvents();
 
     /**
-     * Return person event association mapping
+     * Returns the events that {@code person} is linked to.
+     */
+    Set<Event> getLinkedEvents(Person person);
+
+    /**
+     * Begins a transaction. Until it is committed or rolled back, changes to the address book and the filters of its
+     * lists are made as usual and the operations that undo them are recorded, but the displayed lists are held back.
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Keeps the changes made in the transaction, shows them in the displayed lists in a single change each, and ends
+     * it.
+     * @throws IllegalStateException if no transaction is in progress.
      */
-    public Map<Event, ArrayList<Person>> getPersonEventAssociationMap();
+    void commitTransaction();
+
+    /**
+     * Undoes the changes made in the transaction, latest first, and ends it. The displayed lists are left as they
+     * were before the transaction.
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /** Returns true if a transaction is in progress. */
+    boolean isInTransaction();
 }
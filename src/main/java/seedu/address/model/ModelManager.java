@@ -4,15 +4,20 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StagedObservableList;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.event.Event;
@@ -28,6 +33,12 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
+    private final StagedObservableList<Person> displayedPersons;
+    private final StagedObservableList<Event> displayedEvents;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
+    private final ObservableList<Event> unmodifiableDisplayedEvents;
+    /** The operations that undo the changes made in the transaction in progress, latest first, or null if none. */
+    private Deque<Runnable> undoLog;
     private boolean clearCommandPrompted = ClearCommand.isPrompted();
     private boolean clearCommandConfirmed = ClearCommand.isConfirmed();
 
@@ -45,6 +56,10 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
+        displayedPersons = new StagedObservableList<>(filteredPersons);
+        displayedEvents = new StagedObservableList<>(filteredEvents);
+        unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+        unmodifiableDisplayedEvents = FXCollections.unmodifiableObservableList(displayedEvents);
     }
 
     public ModelManager() {
@@ -90,16 +105,19 @@ public class ModelManager implements Model {
 
     @Override
     public void setEventList(ReadOnlyAddressBook addressBook) {
+        recordReset();
         this.addressBook.clearEvents(addressBook);
     }
 
     @Override
     public void setPersonList(ReadOnlyAddressBook addressBook) {
+        recordReset();
         this.addressBook.clearPersons(addressBook);
     }
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        recordReset();
         this.addressBook.resetData(addressBook);
     }
 
@@ -133,12 +151,23 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        if (undoLog == null) {
+            addressBook.removePerson(target);
+            return;
+        }
+        int index = addressBook.indexOfPerson(target);
+        Set<Event> linkedEvents = addressBook.getLinkedEvents(target);
         addressBook.removePerson(target);
+        undoLog.push(() -> {
+            addressBook.addPerson(index, target);
+            linkedEvents.forEach(event -> addressBook.linkPersonToEvent(target, event));
+        });
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        record(() -> addressBook.removePerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -147,6 +176,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        record(() -> addressBook.setPerson(editedPerson, target));
     }
 
     @Override
@@ -158,22 +188,32 @@ public class ModelManager implements Model {
     @Override
     public void linkPersonToEvent(Person person, Event event) {
         requireAllNonNull(person, event);
+        boolean wasLinked = addressBook.isPersonLinkedToEvent(person, event);
         addressBook.linkPersonToEvent(person, event);
+        if (!wasLinked) {
+            record(() -> addressBook.unlinkPersonFromEvent(person, event));
+        }
     }
 
     @Override
     public void unlinkPersonFromEvent(Person person, Event event) {
         requireAllNonNull(person, event);
+        boolean wasLinked = addressBook.isPersonLinkedToEvent(person, event);
         addressBook.unlinkPersonFromEvent(person, event);
+        if (wasLinked) {
+            record(() -> addressBook.linkPersonToEvent(person, event));
+        }
     }
 
     @Override
     public void clearAllEvents() {
+        recordReset();
         addressBook.clearEvents(new AddressBook());
     }
 
     @Override
     public void clearAllPersons() {
+        recordReset();
         addressBook.clearPersons(new AddressBook());
     }
 
@@ -188,10 +228,18 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    @Override
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS && filteredPersons.getPredicate() == predicate) {
+            return; // already shows every person, including any added since
+        }
+        setPredicate(filteredPersons, predicate);
     }
 
     //=========== Event Methods==============================================================================
@@ -204,12 +252,22 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteEvent(Event target) {
+        if (undoLog == null) {
+            addressBook.removeEvent(target);
+            return;
+        }
+        Set<Person> linkedPersons = addressBook.getLinkedPersons(target);
         addressBook.removeEvent(target);
+        undoLog.push(() -> {
+            addressBook.addEvent(target);
+            linkedPersons.forEach(person -> addressBook.linkPersonToEvent(person, target));
+        });
     }
 
     @Override
     public void addEvent(Event event) {
         addressBook.addEvent(event);
+        record(() -> addressBook.removeEvent(event));
 
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
     }
@@ -219,6 +277,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedEvent);
 
         addressBook.setEvent(target, editedEvent);
+        record(() -> addressBook.setEvent(editedEvent, target));
     }
 
     @Override
@@ -233,10 +292,37 @@ public class ModelManager implements Model {
         return filteredEvents;
     }
 
+    @Override
+    public ObservableList<Event> getDisplayedEventList() {
+        return unmodifiableDisplayedEvents;
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
-        filteredEvents.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_EVENTS && filteredEvents.getPredicate() == predicate) {
+            return; // already shows every event, including any added since
+        }
+        setPredicate(filteredEvents, predicate);
+    }
+
+    /**
+     * Filters {@code filteredList} with {@code predicate}.
+     * If {@code predicate} is an {@code IndexedPredicate}, its matches are looked up first, so that refiltering the
+     * list only checks each element against them.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> void setPredicate(FilteredList<T> filteredList, Predicate<T> predicate) {
+        if (!(predicate instanceof IndexedPredicate)) {
+            filteredList.setPredicate(predicate);
+            return;
+        }
+
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        matches.addAll(((IndexedPredicate<T>) predicate).lookUp(addressBook));
+        LookedUpPredicate<T> lookedUpPredicate = new LookedUpPredicate<>(predicate, matches);
+        filteredList.setPredicate(lookedUpPredicate);
+        lookedUpPredicate.releaseMatches();
     }
 
     @Override
@@ -244,6 +330,82 @@ public class ModelManager implements Model {
         addressBook.reSortEvents();
     };
 
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (undoLog != null) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        undoLog = new ArrayDeque<>();
+        displayedPersons.startStaging();
+        displayedEvents.startStaging();
+        Predicate<? super Person> personPredicate = filteredPersons.getPredicate();
+        Predicate<? super Event> eventPredicate = filteredEvents.getPredicate();
+        undoLog.push(() -> {
+            restoreFilter(filteredPersons, personPredicate);
+            restoreFilter(filteredEvents, eventPredicate);
+        });
+    }
+
+    @Override
+    public void commitTransaction() {
+        if (undoLog == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        undoLog = null;
+        displayedPersons.publishStaged();
+        displayedEvents.publishStaged();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        if (undoLog == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        Deque<Runnable> operations = undoLog;
+        undoLog = null;
+        while (!operations.isEmpty()) {
+            operations.pop().run();
+        }
+        displayedPersons.discardStaged();
+        displayedEvents.discardStaged();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return undoLog != null;
+    }
+
+    /**
+     * Records {@code undo} as the operation that undoes the change just made, if a transaction is in progress.
+     */
+    private void record(Runnable undo) {
+        if (undoLog != null) {
+            undoLog.push(undo);
+        }
+    }
+
+    /**
+     * Records the current contents of the address book to be restored on rollback, if a transaction is in progress.
+     * Only the changes that replace whole lists copy the address book, as they replace every element anyway.
+     */
+    private void recordReset() {
+        if (undoLog != null) {
+            AddressBook contents = new AddressBook(addressBook);
+            undoLog.push(() -> addressBook.resetData(contents));
+        }
+    }
+
+    /**
+     * Filters {@code filteredList} with {@code predicate} again, if it is not already.
+     */
+    private static <T> void restoreFilter(FilteredList<T> filteredList, Predicate<? super T> predicate) {
+        if (filteredList.getPredicate() != predicate) {
+            filteredList.setPredicate(predicate);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -261,11 +423,39 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons)
                 && filteredEvents.equals(otherModelManager.filteredEvents)
                 && clearCommandPrompted == otherModelManager.clearCommandPrompted
-                && clearCommandConfirmed == otherModelManager.clearCommandConfirmed;
+                && clearCommandConfirmed == otherModelManager.clearCommandConfirmed
+                && isInTransaction() == otherModelManager.isInTransaction();
     }
 
     @Override
-    public Map<Event, ArrayList<Person>> getPersonEventAssociationMap() {
-        return addressBook.getPersonEventAssociationMap();
+    public Set<Event> getLinkedEvents(Person person) {
+        requireNonNull(person);
+        return addressBook.getLinkedEvents(person);
+    }
+
+    /**
+     * Tests elements by whether they are among the matches of a predicate that were looked up when the filter was
+     * applied, and tests any element that is added or edited afterwards with the predicate itself.
+     */
+    private static class LookedUpPredicate<T> implements Predicate<T> {
+        private final Predicate<T> predicate;
+        private Set<T> matches;
+
+        LookedUpPredicate(Predicate<T> predicate, Set<T> matches) {
+            this.predicate = predicate;
+            this.matches = matches;
+        }
+
+        /**
+         * Stops using the looked-up matches, which only describe the elements present when they were looked up.
+         */
+        void releaseMatches() {
+            matches = null;
+        }
+
+        @Override
+        public boolean test(T element) {
+            return matches == null ? predicate.test(element) : matches.contains(element);
+        }
     }
 }
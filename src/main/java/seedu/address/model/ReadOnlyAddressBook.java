@@ -26,4 +26,26 @@ public interface ReadOnlyAddressBook {
      * Returns the PersonEventManager.
      */
     PersonEventManager getPersonEventManager();
+
+    /**
+     * Returns the links between the persons and events as ids, in the layout of
+     * {@link PersonEventManager#toLinkIds()}. The returned array must not be modified.
+     */
+    default long[] getLinkIds() {
+        return getPersonEventManager().toLinkIds();
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of the address book change.
+     * Reordering the events by time does not count as a change.
+     */
+    long getVersion();
+
+    /**
+     * Returns the log of the changes that led to the current contents.
+     * Address books that do not keep one return an empty log, which does not reach back to any other.
+     */
+    default ChangeLog getChangeLog() {
+        return ChangeLog.start();
+    }
 }
@@ -3,6 +3,8 @@ package seedu.address.model.types.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -16,6 +18,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -25,16 +28,28 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
-        requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        this(requireNonNull(address), isValidAddress(address));
+    }
+
+    private Address(String address, boolean isValid) {
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} of {@code address}, which the caller has already checked with
+     * {@link #isValidAddress(String)}. Unlike the constructor, the check is not repeated.
+     */
+    public static Address ofValidated(String address) {
+        requireNonNull(address);
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
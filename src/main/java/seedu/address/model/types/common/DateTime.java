@@ -2,10 +2,10 @@ package seedu.address.model.types.common;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
-import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 /**
  * Represents an Event's datetime in the address book.
@@ -21,6 +21,7 @@ public class DateTime {
      */
     public static final String VALIDATION_REGEX = "\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12][0-9]|3[01])"
         + " ([01][0-9]|2[0-3]):[0-5][0-9]";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
     public final LocalDateTime localDateTimeValue;
@@ -31,30 +32,65 @@ public class DateTime {
      * @param dateTime A valid date and time.
      */
     public DateTime(String dateTime) {
-        requireNonNull(dateTime);
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
+        this(requireNonNull(dateTime), parseDateTime(dateTime));
+    }
+
+    private DateTime(String dateTime, LocalDateTime localDateTime) {
+        checkArgument(localDateTime != null, MESSAGE_CONSTRAINTS);
         value = dateTime;
-        localDateTimeValue = LocalDateTime.parse(dateTime, DATE_TIME_FORMATTER);
+        localDateTimeValue = localDateTime;
+    }
+
+    /**
+     * Returns a {@code DateTime} of {@code dateTime}, which the caller has already checked with
+     * {@link #isValidDateTime(String)}. Unlike the constructor, the check is not repeated.
+     */
+    public static DateTime ofValidated(String dateTime) {
+        requireNonNull(dateTime);
+        return new DateTime(dateTime, readDateTime(dateTime));
     }
 
     /**
      * Returns true if a given string is a valid date and time.
      */
     public static boolean isValidDateTime(String test) {
-        boolean internalValidation;
-        boolean externalValidation;
-
-        internalValidation = test.matches(VALIDATION_REGEX);
+        return parseDateTime(test) != null;
+    }
 
+    /**
+     * Returns the date and time in {@code test}, or null if it is not a valid date and time.
+     * Besides matching {@code VALIDATION_REGEX}, the date must exist, e.g. 2023-02-29 and 2023-04-31 do not.
+     * Years start from 0001, as in {@code DateTimeUtil.DATE_TIME_FORMATTER}.
+     */
+    private static LocalDateTime parseDateTime(String test) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
+            return null;
+        }
         try {
-            LocalDateTime dateTime = LocalDateTime.parse(test, DATE_TIME_FORMATTER);
-            String dateTimeString = dateTime.format(DATE_TIME_FORMATTER);
-            externalValidation = test.equals(dateTimeString); //Since LocalDateTime parser is lenient
-        } catch (DateTimeParseException e) {
-            externalValidation = false;
+            LocalDateTime dateTime = readDateTime(test);
+            return dateTime.getYear() > 0 ? dateTime : null;
+        } catch (DateTimeException e) {
+            return null;
         }
+    }
+
+    /**
+     * Returns the date and time in {@code dateTime}, which must match {@code VALIDATION_REGEX}, by reading its
+     * digits directly instead of parsing it with {@code DateTimeUtil.DATE_TIME_FORMATTER}.
+     *
+     * @throws DateTimeException if the date does not exist.
+     */
+    private static LocalDateTime readDateTime(String dateTime) {
+        return LocalDateTime.of(readNumber(dateTime, 0, 4), readNumber(dateTime, 5, 7), readNumber(dateTime, 8, 10),
+                readNumber(dateTime, 11, 13), readNumber(dateTime, 14, 16));
+    }
 
-        return internalValidation && externalValidation;
+    private static int readNumber(String digits, int beginIndex, int endIndex) {
+        int number = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            number = number * 10 + (digits.charAt(i) - '0');
+        }
+        return number;
     }
 
     public LocalDateTime toLocalDateTime() {
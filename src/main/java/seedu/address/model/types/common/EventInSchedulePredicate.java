@@ -3,15 +3,18 @@ package seedu.address.model.types.common;
 import static seedu.address.model.types.common.DateTimeUtil.DATE_TIME_FORMATTER;
 
 import java.time.LocalDateTime;
-import java.util.function.Predicate;
+import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.types.event.Event;
 
 /**
  * Tests that a {@code Event}'s {@code StartDate} between a start and end date.
+ * The matching events in an address book are looked up by start time.
  */
-public class EventInSchedulePredicate implements Predicate<Event> {
+public class EventInSchedulePredicate implements IndexedPredicate<Event> {
     private final LocalDateTime startDate;
     private final LocalDateTime endDate;
 
@@ -49,6 +52,11 @@ public class EventInSchedulePredicate implements Predicate<Event> {
                 && (eventLocalDateTime.isBefore(endDate) || eventLocalDateTime.isEqual(endDate));
     }
 
+    @Override
+    public List<Event> lookUp(AddressBook addressBook) {
+        return addressBook.getEventsStartingBetween(startDate, endDate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
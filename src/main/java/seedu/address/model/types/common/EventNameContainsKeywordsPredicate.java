@@ -1,16 +1,19 @@
 package seedu.address.model.types.common;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.types.event.Event;
 
 /**
  * Tests that a {@code Event}'s {@code Name} matches any of the keywords given.
+ * The matching events in an address book are looked up in its name index.
  */
-public class EventNameContainsKeywordsPredicate implements Predicate<Event> {
+public class EventNameContainsKeywordsPredicate implements IndexedPredicate<Event> {
     private final List<String> keywords;
 
     public EventNameContainsKeywordsPredicate(List<String> keywords) {
@@ -23,6 +26,11 @@ public class EventNameContainsKeywordsPredicate implements Predicate<Event> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(event.getName().fullName, keyword));
     }
 
+    @Override
+    public Set<Event> lookUp(AddressBook addressBook) {
+        return addressBook.getEventsNamedWith(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
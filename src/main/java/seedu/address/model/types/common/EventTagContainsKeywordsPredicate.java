@@ -1,16 +1,19 @@
 package seedu.address.model.types.common;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.types.event.Event;
 
 /**
  * Tests that a {@code Event}'s {@code Tag Name} matches any of the keywords given.
+ * The matching events in an address book are looked up in its tag index.
  */
-public class EventTagContainsKeywordsPredicate implements Predicate<Event> {
+public class EventTagContainsKeywordsPredicate implements IndexedPredicate<Event> {
     private final List<String> keywords;
 
     public EventTagContainsKeywordsPredicate(List<String> keywords) {
@@ -24,6 +27,11 @@ public class EventTagContainsKeywordsPredicate implements Predicate<Event> {
                         .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.getTagName(), keyword)));
     }
 
+    @Override
+    public Set<Event> lookUp(AddressBook addressBook) {
+        return addressBook.getEventsTaggedWith(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
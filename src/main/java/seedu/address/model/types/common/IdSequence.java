@@ -0,0 +1,26 @@
+package seedu.address.model.types.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out unique numeric ids for entities in the address book.
+ * Ids that are read back from storage can be reserved so that they are never handed out again.
+ */
+public class IdSequence {
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * Returns an id that has not been handed out or reserved before.
+     */
+    public long next() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Ensures that {@code id} will not be returned by subsequent calls to {@link #next()}.
+     */
+    public void reserve(long id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.types.common;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -26,16 +28,38 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
-        requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        this(requireNonNull(name), isValidName(name));
+    }
+
+    private Name(String name, boolean isValid) {
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of {@code name}, which the caller has already checked with
+     * {@link #isValidName(String)}. Unlike the constructor, the check is not repeated.
+     */
+    public static Name ofValidated(String name) {
+        requireNonNull(name);
+        return new Name(name, true);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for VALIDATION_REGEX directly, as names are validated for every person and event loaded.
+        if (test.isEmpty() || test.charAt(0) == ' ') {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !StringUtil.isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
@@ -1,8 +1,12 @@
 package seedu.address.model.types.common;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
@@ -11,13 +15,41 @@ import seedu.address.model.types.person.Person;
 
 /**
  * Manages the relationship between events and persons.
+ * Links are stored as pairs of person and event ids, indexed in both directions, so looking up the persons of an
+ * event or the events of a person only costs as much as the number of links involved. Since ids survive edits,
+ * editing a linked person or event only replaces the object stored under its id.
  */
 public class PersonEventManager {
 
-    private HashMap<Event, ArrayList<Person>> eventPersonMap;
+    private HashMap<Long, Event> eventsById;
 
+    private HashMap<Long, Person> personsById;
+
+    private HashMap<Long, Set<Long>> eventPersonIds;
+
+    private HashMap<Long, Set<Long>> personEventIds;
+
+    /**
+     * Creates an empty PersonEventManager.
+     */
     public PersonEventManager() {
-        eventPersonMap = new HashMap<>();
+        eventsById = new HashMap<>();
+        personsById = new HashMap<>();
+        eventPersonIds = new HashMap<>();
+        personEventIds = new HashMap<>();
+    }
+
+    /**
+     * Creates a PersonEventManager with the same links as {@code toBeCopied}.
+     */
+    public PersonEventManager(PersonEventManager toBeCopied) {
+        this();
+        eventsById.putAll(toBeCopied.eventsById);
+        personsById.putAll(toBeCopied.personsById);
+        toBeCopied.eventPersonIds.forEach((eventId, personIds) ->
+                eventPersonIds.put(eventId, new LinkedHashSet<>(personIds)));
+        toBeCopied.personEventIds.forEach((personId, eventIds) ->
+                personEventIds.put(personId, new LinkedHashSet<>(eventIds)));
     }
 
     /* ============================== Person Methods ============================== */
@@ -29,7 +61,8 @@ public class PersonEventManager {
      * @return
      */
     public boolean isPersonLinkedToEvent(Person person, Event event) {
-        return eventPersonMap.get(event).contains(person);
+        Set<Long> linkedEventIds = personEventIds.get(person.getId());
+        return linkedEventIds != null && linkedEventIds.contains(event.getId());
     }
 
     /**
@@ -39,7 +72,9 @@ public class PersonEventManager {
      * @throws EventNotFoundException
      */
     public void addPersonToEvent(Person person, Event event) {
-        eventPersonMap.get(event).add(person);
+        eventPersonIds.get(event.getId()).add(person.getId());
+        personEventIds.computeIfAbsent(person.getId(), unused -> new LinkedHashSet<>()).add(event.getId());
+        personsById.put(person.getId(), person);
     }
 
     /**
@@ -49,7 +84,8 @@ public class PersonEventManager {
      * @throws EventNotFoundException
      */
     public void removePersonFromEvent(Person person, Event event) {
-        eventPersonMap.get(event).remove(person);
+        eventPersonIds.get(event.getId()).remove(person.getId());
+        unlinkEventFromPerson(event.getId(), person.getId());
     }
 
     /**
@@ -57,15 +93,14 @@ public class PersonEventManager {
      * @param person
      */
     public void removePersonFromAllEvents(Person person) {
-        if (eventPersonMap.keySet() == null) {
+        Set<Long> linkedEventIds = personEventIds.remove(person.getId());
+        personsById.remove(person.getId());
+        if (linkedEventIds == null) {
             return;
         }
 
-        for (Event event : eventPersonMap.keySet()) {
-            ArrayList<Person> linkedPeople = eventPersonMap.get(event);
-            if (linkedPeople != null) {
-                linkedPeople.remove(person);
-            }
+        for (Long eventId : linkedEventIds) {
+            eventPersonIds.get(eventId).remove(person.getId());
         }
     }
 
@@ -75,33 +110,71 @@ public class PersonEventManager {
      * @param editedPerson
      */
     public void setPersonForAllEvents(Person target, Person editedPerson) {
-        if (eventPersonMap.keySet() == null) {
+        if (target.getId() == editedPerson.getId()) {
+            personsById.replace(target.getId(), editedPerson);
             return;
         }
 
-        for (Event event : eventPersonMap.keySet()) {
-            ArrayList<Person> linkedPeople = eventPersonMap.get(event);
+        Set<Long> linkedEventIds = personEventIds.remove(target.getId());
+        personsById.remove(target.getId());
+        if (linkedEventIds == null) {
+            return;
+        }
 
-            if (linkedPeople == null) {
-                continue;
-            }
+        for (Long eventId : linkedEventIds) {
+            Set<Long> linkedPersonIds = eventPersonIds.get(eventId);
+            linkedPersonIds.remove(target.getId());
+            linkedPersonIds.add(editedPerson.getId());
+        }
+        personEventIds.computeIfAbsent(editedPerson.getId(), unused -> new LinkedHashSet<>()).addAll(linkedEventIds);
+        personsById.put(editedPerson.getId(), editedPerson);
+    }
 
-            if (eventPersonMap.get(event).contains(target)) {
-                eventPersonMap.get(event).remove(target);
-                eventPersonMap.get(event).add(editedPerson);
-            }
+    /**
+     * Returns an unmodifiable set of the events the person is linked to.
+     * @param person
+     * @return
+     */
+    public Set<Event> getEventsForPerson(Person person) {
+        Set<Long> linkedEventIds = personEventIds.get(person.getId());
+        if (linkedEventIds == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Event> linkedEvents = new LinkedHashSet<>();
+        for (Long eventId : linkedEventIds) {
+            linkedEvents.add(eventsById.get(eventId));
         }
+        return Collections.unmodifiableSet(linkedEvents);
     }
 
     /* ============================== Event Methods ============================== */
 
+    /**
+     * Returns an unmodifiable set of the persons linked to the event.
+     * @param event
+     * @return
+     */
+    public Set<Person> getPersonsForEvent(Event event) {
+        Set<Long> linkedPersonIds = eventPersonIds.get(event.getId());
+        if (linkedPersonIds == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Person> linkedPersons = new LinkedHashSet<>();
+        for (Long personId : linkedPersonIds) {
+            linkedPersons.add(personsById.get(personId));
+        }
+        return Collections.unmodifiableSet(linkedPersons);
+    }
+
     /**
      * Returns true if the event is in the eventPersonMap.
      * @param event
      * @return
      */
     public boolean hasEvent(Event event) {
-        return eventPersonMap.containsKey(event);
+        return eventsById.containsKey(event.getId());
     }
 
     /**
@@ -110,7 +183,9 @@ public class PersonEventManager {
      * @throws DuplicateEventException
      */
     public void addEvent(Event event) {
-        eventPersonMap.put(event, new ArrayList<>());
+        removeEvent(event);
+        eventsById.put(event.getId(), event);
+        eventPersonIds.put(event.getId(), new LinkedHashSet<>());
     }
 
     /**
@@ -119,7 +194,15 @@ public class PersonEventManager {
      * @throws EventNotFoundException
      */
     public void removeEvent(Event event) {
-        eventPersonMap.remove(event);
+        eventsById.remove(event.getId());
+        Set<Long> linkedPersonIds = eventPersonIds.remove(event.getId());
+        if (linkedPersonIds == null) {
+            return;
+        }
+
+        for (Long personId : linkedPersonIds) {
+            unlinkEventFromPerson(event.getId(), personId);
+        }
     }
 
     /**
@@ -128,13 +211,29 @@ public class PersonEventManager {
      * @param editedEvent
      */
     public void setEvent(Event target, Event editedEvent) {
-        ArrayList<Person> persons = eventPersonMap.get(target);
-        eventPersonMap.remove(target);
-        eventPersonMap.put(editedEvent, persons);
+        if (target.getId() == editedEvent.getId()) {
+            eventsById.put(editedEvent.getId(), editedEvent);
+            eventPersonIds.putIfAbsent(editedEvent.getId(), new LinkedHashSet<>());
+            return;
+        }
+
+        eventsById.remove(target.getId());
+        Set<Long> linkedPersonIds = eventPersonIds.remove(target.getId());
+        if (linkedPersonIds == null) {
+            linkedPersonIds = new LinkedHashSet<>();
+        }
+        eventsById.put(editedEvent.getId(), editedEvent);
+        eventPersonIds.put(editedEvent.getId(), linkedPersonIds);
+
+        for (Long personId : linkedPersonIds) {
+            Set<Long> linkedEventIds = personEventIds.get(personId);
+            linkedEventIds.remove(target.getId());
+            linkedEventIds.add(editedEvent.getId());
+        }
     }
 
     public Event getEventByName(Event target) {
-        return eventPersonMap.keySet().stream()
+        return eventsById.values().stream()
                 .filter(event -> event.isSameEvent(target))
                 .findFirst()
                 .orElse(null);
@@ -144,25 +243,73 @@ public class PersonEventManager {
      * adds a linked persons entry to the eventPersonMap.
      */
     public void addLinkedPersonsEntry(LinkedPersonsEntry linkedPersonsEntry) {
-        eventPersonMap.put(linkedPersonsEntry.getEvent(), linkedPersonsEntry.getPersons());
+        Event event = linkedPersonsEntry.getEvent();
+        addEvent(event);
+        for (Person person : linkedPersonsEntry.getPersons()) {
+            addPersonToEvent(person, event);
+        }
     }
 
     public ArrayList<LinkedPersonsEntry> getLinkedPersonsEntryList() {
         ArrayList<LinkedPersonsEntry> linkedPersonsEntries = new ArrayList<>();
-        for (Map.Entry<Event, ArrayList<Person>> entry : eventPersonMap.entrySet()) {
+        for (Map.Entry<Event, Set<Person>> entry : toEventPersonMap().entrySet()) {
             Event event = entry.getKey();
-            ArrayList<Person> persons = entry.getValue();
+            ArrayList<Person> persons = new ArrayList<>(entry.getValue());
             linkedPersonsEntries.add(new LinkedPersonsEntry(event, persons));
         }
         return linkedPersonsEntries;
     }
 
+    /**
+     * Returns the links as ids, for each event in turn: the event id, the number of persons linked to it, then their
+     * ids. Every event is included, even if no person is linked to it.
+     * Copying the ids is much cheaper than copying this manager, so it is how snapshots keep the links.
+     *
+     * @see #fromLinkIds(long[], Map, Map)
+     */
+    public long[] toLinkIds() {
+        int size = 0;
+        for (Set<Long> personIds : eventPersonIds.values()) {
+            size += 2 + personIds.size();
+        }
+
+        long[] linkIds = new long[size];
+        int i = 0;
+        for (Map.Entry<Long, Set<Long>> entry : eventPersonIds.entrySet()) {
+            linkIds[i++] = entry.getKey();
+            linkIds[i++] = entry.getValue().size();
+            for (Long personId : entry.getValue()) {
+                linkIds[i++] = personId;
+            }
+        }
+        return linkIds;
+    }
+
+    /**
+     * Returns a PersonEventManager with the links in {@code linkIds}, as returned by {@link #toLinkIds()}, between
+     * the persons and events with those ids in {@code personsById} and {@code eventsById}.
+     */
+    public static PersonEventManager fromLinkIds(long[] linkIds, Map<Long, Person> personsById,
+            Map<Long, Event> eventsById) {
+        PersonEventManager manager = new PersonEventManager();
+        int i = 0;
+        while (i < linkIds.length) {
+            Event event = eventsById.get(linkIds[i++]);
+            long personCount = linkIds[i++];
+            manager.addEvent(event);
+            for (long j = 0; j < personCount; j++) {
+                manager.addPersonToEvent(personsById.get(linkIds[i++]), event);
+            }
+        }
+        return manager;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (Map.Entry<Event, ArrayList<Person>> entry : eventPersonMap.entrySet()) {
+        for (Map.Entry<Event, Set<Person>> entry : toEventPersonMap().entrySet()) {
             Event event = entry.getKey();
-            ArrayList<Person> persons = entry.getValue();
+            Set<Person> persons = entry.getValue();
             sb.append(event.getName().fullName).append(": ");
             for (Person person : persons) {
                 sb.append(person.getName().fullName).append(", ");
@@ -178,29 +325,61 @@ public class PersonEventManager {
             return true;
         } else if (other instanceof PersonEventManager) {
             PersonEventManager otherManager = (PersonEventManager) other;
-            return otherManager.eventPersonMap.equals(eventPersonMap);
+            return otherManager.toEventPersonMap().equals(toEventPersonMap());
         } else {
             return false;
         }
     }
 
-    public Map<Event, ArrayList<Person>> getEventPersonMap() {
-        return eventPersonMap;
-    }
-
     /**
      * Clears all events from the eventPersonMap.
      */
     public void clearAllEvents() {
-        eventPersonMap.clear();
+        eventsById.clear();
+        personsById.clear();
+        eventPersonIds.clear();
+        personEventIds.clear();
     }
 
     /**
      * Clears all persons from all events.
      */
     public void clearAllPersons() {
-        for (Event event : eventPersonMap.keySet()) {
-            eventPersonMap.get(event).clear();
+        for (Set<Long> linkedPersonIds : eventPersonIds.values()) {
+            linkedPersonIds.clear();
+        }
+        personsById.clear();
+        personEventIds.clear();
+    }
+
+    /**
+     * Returns the links as a map from each event to the persons linked to it.
+     */
+    private Map<Event, Set<Person>> toEventPersonMap() {
+        Map<Event, Set<Person>> eventPersonMap = new LinkedHashMap<>();
+        for (Map.Entry<Long, Set<Long>> entry : eventPersonIds.entrySet()) {
+            Set<Person> persons = new LinkedHashSet<>();
+            for (Long personId : entry.getValue()) {
+                persons.add(personsById.get(personId));
+            }
+            eventPersonMap.put(eventsById.get(entry.getKey()), persons);
+        }
+        return eventPersonMap;
+    }
+
+    /**
+     * Removes the event from the events linked to the person, forgetting the person once it has no links left.
+     */
+    private void unlinkEventFromPerson(Long eventId, Long personId) {
+        Set<Long> linkedEventIds = personEventIds.get(personId);
+        if (linkedEventIds == null) {
+            return;
+        }
+
+        linkedEventIds.remove(eventId);
+        if (linkedEventIds.isEmpty()) {
+            personEventIds.remove(personId);
+            personsById.remove(personId);
         }
     }
 }
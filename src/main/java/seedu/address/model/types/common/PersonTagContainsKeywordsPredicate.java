@@ -1,16 +1,19 @@
 package seedu.address.model.types.common;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.IndexedPredicate;
 import seedu.address.model.types.person.Person;
 
 /**
  * Tests that a {@code Person}'s {@code Tag Name} matches any of the keywords given.
+ * The matching persons in an address book are looked up in its tag index.
  */
-public class PersonTagContainsKeywordsPredicate implements Predicate<Person> {
+public class PersonTagContainsKeywordsPredicate implements IndexedPredicate<Person> {
     private final List<String> keywords;
 
     public PersonTagContainsKeywordsPredicate(List<String> keywords) {
@@ -24,6 +27,11 @@ public class PersonTagContainsKeywordsPredicate implements Predicate<Person> {
                         .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.getTagName(), keyword)));
     }
 
+    @Override
+    public Set<Person> lookUp(AddressBook addressBook) {
+        return addressBook.getPersonsTaggedWith(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -21,16 +21,38 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
-        requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        this(requireNonNull(phone), isValidPhone(phone));
+    }
+
+    private Phone(String phone, boolean isValid) {
+        checkArgument(isValid, MESSAGE_CONSTRAINTS);
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone}, which the caller has already checked with
+     * {@link #isValidPhone(String)}. Unlike the constructor, the check is not repeated.
+     */
+    public static Phone ofValidated(String phone) {
+        requireNonNull(phone);
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans for VALIDATION_REGEX directly, as phone numbers are validated for every person loaded.
+        if (test.length() < 3) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
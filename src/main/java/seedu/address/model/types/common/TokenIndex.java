@@ -0,0 +1,97 @@
+package seedu.address.model.types.common;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in some text of each element, such as its tag names, to the elements.
+ * Words are matched as in {@link StringUtil#containsWordIgnoreCase(String, String)}: whole words, ignoring case.
+ * Elements are kept by identity, so an element must be removed as the same object that was added.
+ */
+public class TokenIndex<T> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Function<T, Collection<String>> textsOf;
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index over the texts returned by {@code textsOf} for each element.
+     */
+    public TokenIndex(Function<T, Collection<String>> textsOf) {
+        requireNonNull(textsOf);
+        this.textsOf = textsOf;
+    }
+
+    /**
+     * Adds {@code element} under each word in its texts.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        for (String text : textsOf.apply(element)) {
+            for (String word : WHITESPACE.split(text)) {
+                postings.computeIfAbsent(StringUtil.foldCase(word), unused -> newIdentitySet()).add(element);
+            }
+        }
+    }
+
+    /**
+     * Adds each of {@code elements}.
+     */
+    public void addAll(Iterable<? extends T> elements) {
+        requireNonNull(elements);
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element} from the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        for (String text : textsOf.apply(element)) {
+            for (String word : WHITESPACE.split(text)) {
+                String key = StringUtil.foldCase(word);
+                Set<T> elements = postings.get(key);
+                if (elements != null && elements.remove(element) && elements.isEmpty()) {
+                    postings.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the elements with any of {@code words} in their texts.
+     * Each word is trimmed and must not be empty or contain whitespace.
+     */
+    public Set<T> getMatches(Collection<String> words) {
+        requireNonNull(words);
+        Set<T> matches = newIdentitySet();
+        for (String word : words) {
+            matches.addAll(postings.getOrDefault(StringUtil.foldCase(word.trim()), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -11,14 +11,20 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.IdSequence;
 import seedu.address.model.types.common.Name;
 
 /**
  * Represents an Event in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every event carries a numeric id that is kept across edits; the id is not part of equality.
  */
 public class Event {
 
+    private static final IdSequence ID_SEQUENCE = new IdSequence();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Address location;
@@ -29,15 +35,30 @@ public class Event {
 
     /**
      * Every field must be present and not null.
+     * A new id is assigned to the event.
      */
     public Event(Name name, Address location, DateTime startTime, Set<Tag> tags) {
+        this(ID_SEQUENCE.next(), name, location, startTime, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The event takes the given {@code id}, e.g. when editing an existing event or loading one from storage.
+     */
+    public Event(long id, Name name, Address location, DateTime startTime, Set<Tag> tags) {
         requireAllNonNull(name, location, startTime, tags);
+        ID_SEQUENCE.reserve(id);
+        this.id = id;
         this.name = name;
         this.location = location;
         this.startTime = startTime;
         this.tags.addAll(tags);
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -3,14 +3,25 @@ package seedu.address.model.types.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.BatchedObservableList;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.DateTimeUtil;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.TokenIndex;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.event.exceptions.EventNotFoundException;
 
@@ -23,50 +34,62 @@ import seedu.address.model.types.event.exceptions.EventNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A {@code Name -> Event} index is maintained alongside the observable list, so lookups by name and
+ * duplicate checks do not need to scan the list. The events are also indexed by the words in their names and
+ * tag names, so searches by name or tag look up the matching events instead of testing every event.
+ *
+ * The list is kept in two segments, upcoming events followed by past events, each by start time. Whether an event
+ * is upcoming or past is decided against the time of the last {@link #sortEvents()}, so that single events can be
+ * placed by binary search without re-sorting the whole list, and each {@link #sortEvents()} only has to move the
+ * events that started since the previous one.
+ *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
 
-    private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Event> internalList = new BatchedObservableList<>();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Event> eventsByName = new HashMap<>();
+    private final TokenIndex<Event> eventsByNameWord = new TokenIndex<>(UniqueEventList::getNameText);
+    private final TokenIndex<Event> eventsByTag = new TokenIndex<>(UniqueEventList::getTagNames);
+    private LocalDateTime orderingTime = DateTimeUtil.getCurrentDateTime();
 
     /**
      * Resorts Events
      */
     public void sortEvents() {
-        internalList.sort((event1, event2) -> {
-            long remainingTime1 = getEventTimeRemaining(event1);
-            long remainingTime2 = getEventTimeRemaining(event2);
-
-            // Compare based on the remaining time in minutes
-            if (remainingTime1 == 0 && remainingTime2 == 0) {
-                return 0; // Both events start now
-            } else if (remainingTime1 == 0) {
-                return -1; // event1 starts now, it comes first
-            } else if (remainingTime2 == 0) {
-                return 1; // event2 starts now, it comes first
-            }
+        advanceOrderingTime(DateTimeUtil.getCurrentDateTime());
+    }
 
-            // If both events are in the past
-            if (remainingTime1 < 0 && remainingTime2 < 0) {
-                return Long.compare(remainingTime1, remainingTime2); // Sort by which event is further in the past
-            } else if (remainingTime1 < 0) {
-                return 1; // event1 is in the past, comes after event2
-            } else if (remainingTime2 < 0) {
-                return -1; // event2 is in the past, comes after event1
-            }
+    /**
+     * Moves the upcoming events that have started by {@code now} to the end of the past segment.
+     * Only the events that crossed {@code now} are visited and nothing is published if none did.
+     * Falls back to a full sort if {@code now} is earlier than the current ordering time.
+     */
+    void advanceOrderingTime(LocalDateTime now) {
+        requireNonNull(now);
+        if (now.isBefore(orderingTime)) {
+            replaceAllSorted(new ArrayList<>(internalList), now);
+            return;
+        }
 
-            // Sort based on remaining time in minutes
-            return Long.compare(remainingTime1, remainingTime2);
-        });
-    }
+        // Upcoming events come first and by start time, so the ones that just started form a prefix.
+        int crossedCount = 0;
+        while (crossedCount < internalList.size() && hasStartedSince(internalList.get(crossedCount), now)) {
+            crossedCount++;
+        }
+        orderingTime = now;
 
-    private long getEventTimeRemaining(Event event) {
-        LocalDateTime eventStart = event.getStartTime().toLocalDateTime();
-        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
-        Duration duration = Duration.between(now, eventStart);
-        return duration.toMillis();
+        // Past events all started before the crossed ones, so the crossed ones go to the end in the same order.
+        if (crossedCount == 0 || crossedCount == internalList.size()) {
+            return;
+        }
+        List<Event> crossedEvents = new ArrayList<>(internalList.subList(0, crossedCount));
+        internalList.changeTogether(() -> {
+            internalList.remove(0, crossedEvents.size());
+            internalList.addAll(crossedEvents);
+        });
     }
 
     /**
@@ -74,7 +97,47 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return eventsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the event with the given {@code name}, or null if there is no such event in the list.
+     */
+    public Event getEventByName(Name name) {
+        requireNonNull(name);
+        return eventsByName.get(name);
+    }
+
+    /**
+     * Returns the events in the list that start between {@code start} and {@code end}, both inclusive,
+     * in the order of the list.
+     * As each segment of the list is ordered by start time, the events are found by binary search in each segment
+     * instead of by testing every event.
+     */
+    public List<Event> getEventsStartingBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        int pastStart = findFirst(0, internalList.size(), this::isPast);
+
+        List<Event> result = new ArrayList<>();
+        addEventsStartingBetween(0, pastStart, start, end, result);
+        addEventsStartingBetween(pastStart, internalList.size(), start, end, result);
+        return result;
+    }
+
+    /**
+     * Returns the events with a name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Event> getEventsNamedWith(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return eventsByNameWord.getMatches(keywords);
+    }
+
+    /**
+     * Returns the events with a tag name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Event> getEventsTaggedWith(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return eventsByTag.getMatches(keywords);
     }
 
     /**
@@ -86,8 +149,9 @@ public class UniqueEventList implements Iterable<Event> {
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
-        internalList.add(toAdd);
-        sortEvents();
+        eventsByName.put(toAdd.getName(), toAdd);
+        addToWordIndexes(toAdd);
+        internalList.add(findInsertionIndex(toAdd), toAdd);
     }
 
     /**
@@ -98,8 +162,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!target.equals(eventsByName.get(target.getName()))) {
             throw new EventNotFoundException();
         }
 
@@ -107,8 +170,19 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
-        sortEvents();
+        int index = indexOf(target);
+        removeFromWordIndexes(eventsByName.remove(target.getName()));
+        eventsByName.put(editedEvent.getName(), editedEvent);
+        addToWordIndexes(editedEvent);
+
+        if (fitsAt(index, editedEvent)) {
+            internalList.set(index, editedEvent);
+            return;
+        }
+
+        // The target is still in the list, so the edited event goes one position earlier if it moves down.
+        int insertionIndex = findInsertionIndex(editedEvent);
+        internalList.move(index, insertionIndex > index ? insertionIndex - 1 : insertionIndex, editedEvent);
     }
 
     /**
@@ -117,15 +191,20 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!toRemove.equals(eventsByName.get(toRemove.getName()))) {
             throw new EventNotFoundException();
         }
+
+        removeFromWordIndexes(eventsByName.remove(toRemove.getName()));
+        internalList.remove(indexOf(toRemove));
     }
 
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        sortEvents();
+        eventsByName.clear();
+        eventsByName.putAll(replacement.eventsByName);
+        rebuildWordIndexes(replacement.internalList);
+        replaceAllSorted(new ArrayList<>(replacement.internalList));
     }
 
     /**
@@ -134,12 +213,15 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
+        Map<Name, Event> replacementIndex = indexByName(events);
+        if (replacementIndex == null) {
             throw new DuplicateEventException();
         }
 
-        internalList.setAll(events);
-        sortEvents();
+        eventsByName.clear();
+        eventsByName.putAll(replacementIndex);
+        rebuildWordIndexes(events);
+        replaceAllSorted(new ArrayList<>(events));
     }
 
     /**
@@ -180,16 +262,173 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Sorts {@code events} against the current time and publishes them to the observable list in a single change.
+     * Nothing is published if the list already holds the same event instances in the same order. Instances are
+     * compared by identity, as value-equal events may differ in their ids and the indexes refer to the instances.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private void replaceAllSorted(List<Event> events) {
+        replaceAllSorted(events, DateTimeUtil.getCurrentDateTime());
+    }
+
+    private void replaceAllSorted(List<Event> events, LocalDateTime now) {
+        orderingTime = now;
+        events.sort(this::compareEvents);
+        if (!isSameInstancesInOrder(events)) {
+            internalList.setAll(events);
+        }
+    }
+
+    private boolean isSameInstancesInOrder(List<Event> events) {
+        if (events.size() != internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i) != internalList.get(i)) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Orders upcoming events before past events, and events within each group by start time.
+     */
+    private int compareEvents(Event event1, Event event2) {
+        boolean isPast1 = isPast(event1);
+        boolean isPast2 = isPast(event2);
+        if (isPast1 != isPast2) {
+            return isPast1 ? 1 : -1;
+        }
+        return event1.getStartTime().toLocalDateTime().compareTo(event2.getStartTime().toLocalDateTime());
+    }
+
+    private boolean isPast(Event event) {
+        return event.getStartTime().toLocalDateTime().isBefore(orderingTime);
+    }
+
+    /**
+     * Returns true if {@code event} is in the upcoming segment but starts before {@code now}.
+     */
+    private boolean hasStartedSince(Event event, LocalDateTime now) {
+        return !isPast(event) && event.getStartTime().toLocalDateTime().isBefore(now);
+    }
+
+    /**
+     * Returns the position after all events that are ordered before or together with {@code event}.
+     */
+    private int findInsertionIndex(Event event) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareEvents(internalList.get(mid), event) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code event} in the list, or -1 if it is not in the list.
+     */
+    private int indexOf(Event event) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareEvents(internalList.get(mid), event) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < internalList.size() && compareEvents(internalList.get(i), event) == 0; i++) {
+            if (internalList.get(i).equals(event)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the events between {@code fromIndex} and {@code toIndex} of the list, which must be ordered by start time,
+     * that start between {@code start} and {@code end} to {@code result}.
+     */
+    private void addEventsStartingBetween(int fromIndex, int toIndex, LocalDateTime start, LocalDateTime end,
+            List<Event> result) {
+        int first = findFirst(fromIndex, toIndex, event -> !event.getStartTime().toLocalDateTime().isBefore(start));
+        int last = findFirst(first, toIndex, event -> event.getStartTime().toLocalDateTime().isAfter(end));
+        result.addAll(internalList.subList(first, last));
+    }
+
+    /**
+     * Returns the position of the first event between {@code fromIndex} and {@code toIndex} that satisfies
+     * {@code condition}, or {@code toIndex} if there is none.
+     * The events that satisfy {@code condition} must all come after the ones that do not.
+     */
+    private int findFirst(int fromIndex, int toIndex, Predicate<Event> condition) {
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(internalList.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code event} can replace the event at {@code index} without breaking the ordering.
+     */
+    private boolean fitsAt(int index, Event event) {
+        boolean fitsAfterPrevious = index == 0 || compareEvents(internalList.get(index - 1), event) <= 0;
+        boolean fitsBeforeNext = index == internalList.size() - 1
+                || compareEvents(event, internalList.get(index + 1)) <= 0;
+        return fitsAfterPrevious && fitsBeforeNext;
+    }
+
+    private void addToWordIndexes(Event event) {
+        eventsByNameWord.add(event);
+        eventsByTag.add(event);
+    }
+
+    private void removeFromWordIndexes(Event event) {
+        eventsByNameWord.remove(event);
+        eventsByTag.remove(event);
+    }
+
+    private void rebuildWordIndexes(List<Event> events) {
+        eventsByNameWord.clear();
+        eventsByNameWord.addAll(events);
+        eventsByTag.clear();
+        eventsByTag.addAll(events);
+    }
+
+    private static List<String> getNameText(Event event) {
+        return Collections.singletonList(event.getName().fullName);
+    }
+
+    private static List<String> getTagNames(Event event) {
+        return event.getTags().stream().map(Tag::getTagName).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a map from each event's name to the event in {@code events},
+     * or null if {@code events} does not contain only unique events.
+     */
+    private static Map<Name, Event> indexByName(List<Event> events) {
+        Map<Name, Event> index = new HashMap<>();
+        for (Event event : events) {
+            if (index.putIfAbsent(event.getName(), event) != null) {
+                return null;
+            }
+        }
+        return index;
+    }
 }
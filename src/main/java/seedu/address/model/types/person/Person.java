@@ -11,15 +11,21 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.types.common.Address;
 import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.IdSequence;
 import seedu.address.model.types.common.Name;
 import seedu.address.model.types.common.Phone;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every person carries a numeric id that is kept across edits; the id is not part of equality.
  */
 public class Person {
 
+    private static final IdSequence ID_SEQUENCE = new IdSequence();
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,9 +37,20 @@ public class Person {
 
     /**
      * Every field must be present and not null.
+     * A new id is assigned to the person.
      */
     public Person(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        this(ID_SEQUENCE.next(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The person takes the given {@code id}, e.g. when editing an existing person or loading one from storage.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, tags);
+        ID_SEQUENCE.reserve(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -41,6 +58,10 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
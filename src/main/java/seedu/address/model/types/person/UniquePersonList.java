@@ -3,11 +3,20 @@ package seedu.address.model.types.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.TokenIndex;
 import seedu.address.model.types.person.exceptions.DuplicatePersonException;
 import seedu.address.model.types.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +29,11 @@ import seedu.address.model.types.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the observable list, a hash index from each person's {@code Name} (the identity used by
+ * {@code Person#isSamePerson(Person)}) to its position in the list is maintained, so identity lookups
+ * and duplicate checks run in constant time. The persons are also indexed by the words in their names and
+ * tag names, so searches by name or tag look up the matching persons instead of testing every person.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,13 +41,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> positionByName = new HashMap<>();
+    private final TokenIndex<Person> personsByNameWord = new TokenIndex<>(UniquePersonList::getNameText);
+    private final TokenIndex<Person> personsByTag = new TokenIndex<>(UniquePersonList::getTagNames);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,9 +62,27 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positionByName.put(toAdd.getName(), internalList.size());
+        addToWordIndexes(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons after it.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        addToWordIndexes(toAdd);
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positionByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +91,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +100,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        positionByName.remove(target.getName());
+        positionByName.put(editedPerson.getName(), index);
+        removeFromWordIndexes(internalList.get(index));
+        addToWordIndexes(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +113,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positionByName.remove(toRemove.getName());
+        removeFromWordIndexes(internalList.get(index));
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionByName.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        positionByName.clear();
+        positionByName.putAll(replacement.positionByName);
+        rebuildWordIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +140,55 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> replacementPositions = indexByName(persons);
+        if (replacementPositions == null) {
             throw new DuplicatePersonException();
         }
 
+        positionByName.clear();
+        positionByName.putAll(replacementPositions);
+        rebuildWordIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the person with the given {@code name}, or null if there is no such person in the list.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        Integer index = positionByName.get(name);
+        return index == null ? null : internalList.get(index);
+    }
+
+    /**
+     * Returns the persons with a name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsNamedWith(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return personsByNameWord.getMatches(keywords);
+    }
+
+    /**
+     * Returns the persons with a tag name that contains any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Person> getPersonsTaggedWith(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return personsByTag.getMatches(keywords);
+    }
+
+    /**
+     * Returns the position of the person with exactly the same fields as {@code person},
+     * or -1 if there is no such person in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positionByName.get(person.getName());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,17 +226,42 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addToWordIndexes(Person person) {
+        personsByNameWord.add(person);
+        personsByTag.add(person);
+    }
+
+    private void removeFromWordIndexes(Person person) {
+        personsByNameWord.remove(person);
+        personsByTag.remove(person);
+    }
+
+    private void rebuildWordIndexes(List<Person> persons) {
+        personsByNameWord.clear();
+        personsByNameWord.addAll(persons);
+        personsByTag.clear();
+        personsByTag.addAll(persons);
+    }
+
+    private static List<String> getNameText(Person person) {
+        return Collections.singletonList(person.getName().fullName);
+    }
+
+    private static List<String> getTagNames(Person person) {
+        return person.getTags().stream().map(Tag::getTagName).collect(Collectors.toList());
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a map from each person's name to its position in {@code persons},
+     * or null if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.putIfAbsent(persons.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
@@ -41,11 +41,11 @@ public class SampleDataUtil {
     }
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
-        AddressBook sampleAb = new AddressBook();
+        AddressBook.Builder sampleAb = new AddressBook.Builder();
         for (Person samplePerson : getSamplePersons()) {
             sampleAb.addPerson(samplePerson);
         }
-        return sampleAb;
+        return sampleAb.build();
     }
 
     /**
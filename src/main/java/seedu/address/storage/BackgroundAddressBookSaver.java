@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ * Only the latest address book handed over is kept, so a burst of saves made while a write is in progress is
+ * merged into a single write of the newest data.
+ * The address books handed over must not be modified afterwards, e.g. they should be snapshots.
+ */
+public class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private volatile Consumer<IOException> errorHandler = e -> {};
+
+    public BackgroundAddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called, on the saver thread, with the error of every failed write.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, replacing any address book that is still waiting to be saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        boolean isWriteScheduled = pendingAddressBook != null;
+        pendingAddressBook = addressBook;
+        if (!isWriteScheduled) {
+            executor.execute(this::writePendingAddressBook);
+        }
+    }
+
+    /**
+     * Blocks until every address book handed over so far has been written.
+     * Address books can still be handed over afterwards.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Failed to flush pending saves: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Blocks until every address book handed over so far has been written, then stops the saver thread.
+     * No address book can be handed over afterwards.
+     */
+    public void close() {
+        flush();
+        executor.shutdown();
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+        }
+
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            errorHandler.accept(e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.Address;
+import seedu.address.model.types.common.DateTime;
+import seedu.address.model.types.common.Email;
+import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.common.Name;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Reads an address book in the binary format written by {@link BinaryAddressBookWriter}.
+ * The header is checked before anything is decoded. Every value is validated as in the JSON storage, with the same
+ * messages, but each address and tag in the dictionary is validated and converted only once, however many records
+ * share it.
+ */
+class BinaryAddressBookReader {
+
+    private static final int MAX_VARINT_BYTES = 10;
+
+    private final ByteBuffer buffer;
+    private final AddressBook.Builder builder = new AddressBook.Builder();
+    private final Map<Long, Person> personsById = new HashMap<>();
+    private final Map<Long, Event> eventsById = new HashMap<>();
+
+    private String[] dictionary;
+    private Address[] addresses;
+    private Tag[] tags;
+
+    /**
+     * Creates a reader over the contents of a binary address book file.
+     */
+    BinaryAddressBookReader(byte[] bytes) {
+        this.buffer = ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * Reads the address book.
+     * A reader can only be used once.
+     *
+     * @throws IOException if the data is not a binary address book, or was cut short or corrupted.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read() throws IOException, IllegalValueException {
+        checkHeader();
+        try {
+            readDictionary();
+            readPersons();
+            readEvents();
+            readLinkedPersonsEntries();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary address book data is incomplete", e);
+        }
+        if (buffer.hasRemaining()) {
+            throw new IOException("Binary address book data has unexpected trailing bytes");
+        }
+        return builder.build();
+    }
+
+    private void checkHeader() throws IOException {
+        if (buffer.remaining() < BinaryAddressBookWriter.HEADER_LENGTH) {
+            throw new IOException("Binary address book header is incomplete");
+        }
+        byte[] magic = new byte[BinaryAddressBookWriter.MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryAddressBookWriter.MAGIC)) {
+            throw new IOException("Not a binary address book file");
+        }
+        int formatVersion = buffer.get();
+        if (formatVersion != BinaryAddressBookWriter.FORMAT_VERSION) {
+            throw new IOException("Unsupported binary address book format version: " + formatVersion);
+        }
+        int payloadLength = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+        if (payloadLength != buffer.remaining()) {
+            throw new IOException("Binary address book payload has " + buffer.remaining() + " bytes, expected "
+                    + payloadLength);
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), buffer.position(), payloadLength);
+        if ((int) checksum.getValue() != expectedChecksum) {
+            throw new IOException("Binary address book checksum does not match its contents");
+        }
+    }
+
+    private void readDictionary() throws IOException {
+        int size = readCount();
+        dictionary = new String[size];
+        for (int i = 0; i < size; i++) {
+            dictionary[i] = readString();
+        }
+        addresses = new Address[size];
+        tags = new Tag[size];
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            long id = readVarint();
+            Name name = toName(readString());
+
+            String phone = readString();
+            if (!Phone.isValidPhone(phone)) {
+                throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+            }
+            String email = readString();
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            Address address = toAddress(readCount());
+            Set<Tag> personTags = readTags();
+
+            Person person = new Person(id, name, Phone.ofValidated(phone), Email.ofValidated(email), address,
+                    personTags);
+            if (builder.hasPerson(person)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON);
+            }
+            if (personsById.putIfAbsent(id, person) != null) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_ID);
+            }
+            builder.addPerson(person);
+        }
+    }
+
+    private void readEvents() throws IOException, IllegalValueException {
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            long id = readVarint();
+            Name name = toName(readString());
+            Address location = toAddress(readCount());
+            String startTime = readString();
+            if (!DateTime.isValidDateTime(startTime)) {
+                throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+            }
+            Set<Tag> eventTags = readTags();
+
+            Event event = new Event(id, name, location, DateTime.ofValidated(startTime), eventTags);
+            if (builder.hasEvent(event)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT);
+            }
+            if (eventsById.putIfAbsent(id, event) != null) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_ID);
+            }
+            builder.addEvent(event);
+        }
+    }
+
+    private void readLinkedPersonsEntries() throws IOException, IllegalValueException {
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            long eventId = readVarint();
+            Event event = eventsById.get(eventId);
+            if (event == null) {
+                throw new IllegalValueException(
+                        String.format(JsonAdaptedLinkedPersonsEntry.MESSAGE_UNKNOWN_ID, "event", eventId));
+            }
+
+            int personCount = readCount();
+            ArrayList<Person> persons = new ArrayList<>(personCount);
+            for (int j = 0; j < personCount; j++) {
+                long personId = readVarint();
+                Person person = personsById.get(personId);
+                if (person == null) {
+                    throw new IllegalValueException(
+                            String.format(JsonAdaptedLinkedPersonsEntry.MESSAGE_UNKNOWN_ID, "person", personId));
+                }
+                persons.add(person);
+            }
+            builder.addLinkedPersonsEntry(new LinkedPersonsEntry(event, persons));
+        }
+    }
+
+    private Set<Tag> readTags() throws IOException, IllegalValueException {
+        int count = readCount();
+        Set<Tag> result = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            result.add(toTag(readCount()));
+        }
+        return result;
+    }
+
+    private static Name toName(String name) throws IllegalValueException {
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return Name.ofValidated(name);
+    }
+
+    private Address toAddress(int index) throws IllegalValueException {
+        if (addresses[index] == null) {
+            if (!Address.isValidAddress(dictionary[index])) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
+            addresses[index] = Address.ofValidated(dictionary[index]);
+        }
+        return addresses[index];
+    }
+
+    private Tag toTag(int index) throws IllegalValueException {
+        if (tags[index] == null) {
+            if (!Tag.isValidTagName(dictionary[index])) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags[index] = Tag.ofValidated(dictionary[index]);
+        }
+        return tags[index];
+    }
+
+    private String readString() throws IOException {
+        int length = readCount();
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads a varint that counts or indexes something held in memory.
+     */
+    private int readCount() throws IOException {
+        long value = readVarint();
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Binary address book has an out of range count or index: " + value);
+        }
+        return (int) value;
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << (7 * i);
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Binary address book has a malformed number");
+    }
+}
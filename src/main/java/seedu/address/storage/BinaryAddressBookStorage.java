@@ -0,0 +1,209 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file is smaller and faster to read and write than the JSON file, and can be converted to and from it with
+ * {@link #importFromJson(Path)} and {@link #exportToJson(Path)}.
+ * When switching between the two formats, {@link #takeOverFromJson(Path)} and {@link #handOverToJson(Path)} leave only
+ * the file of the format in use, so that there is a single copy of the data to read and save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    /** Appended to the name of a data file that was replaced by the file of the other format. */
+    public static final String SUPERSEDED_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that goes with the data file at {@code filePath}, which is the same path
+     * with its extension, if any, replaced by {@value #BINARY_FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(new BinaryAddressBookReader(Files.readAllBytes(filePath)).read());
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> new BinaryAddressBookWriter().write(addressBook, out));
+    }
+
+    /**
+     * Replaces the data in this storage's file with the address book in the JSON file at {@code jsonFilePath}.
+     *
+     * @return true if the JSON file was found and imported.
+     * @throws DataLoadingException if the JSON file could not be read.
+     * @throws IOException if the binary file could not be written.
+     */
+    public boolean importFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        saveAddressBook(addressBook.get());
+        logger.info("Imported " + jsonFilePath + " into " + filePath);
+        return true;
+    }
+
+    /**
+     * Writes the address book in this storage's file to the JSON file at {@code jsonFilePath}.
+     *
+     * @return true if this storage's file was found and exported.
+     * @throws DataLoadingException if this storage's file could not be read.
+     * @throws IOException if the JSON file could not be written.
+     */
+    public boolean exportToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(addressBook.get());
+        logger.info("Exported " + filePath + " to " + jsonFilePath);
+        return true;
+    }
+
+    /**
+     * Makes this storage's file the only copy of the data, when switching to it from the JSON file at
+     * {@code jsonFilePath}.
+     * If the JSON file is newer than this storage's file, or this storage's file does not exist, the JSON file is
+     * imported first. The JSON file is then moved to the path returned by {@link #getSupersededFilePath(Path)}.
+     * Nothing is moved if the import fails.
+     *
+     * @throws DataLoadingException if the JSON file could not be read.
+     * @throws IOException if the binary file could not be written, or the JSON file could not be moved.
+     */
+    public void takeOverFromJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        if (!Files.exists(jsonFilePath)) {
+            return;
+        }
+        if (isNewer(jsonFilePath, filePath)) {
+            importFromJson(jsonFilePath);
+        }
+        supersede(jsonFilePath);
+    }
+
+    /**
+     * Makes the JSON file at {@code jsonFilePath} the only copy of the data, when switching to it from this storage's
+     * file.
+     * If this storage's file is newer than the JSON file, or the JSON file does not exist, this storage's file is
+     * exported first. This storage's file is then moved to the path returned by {@link #getSupersededFilePath(Path)}.
+     * Nothing is moved if the export fails.
+     *
+     * @throws DataLoadingException if this storage's file could not be read.
+     * @throws IOException if the JSON file could not be written, or this storage's file could not be moved.
+     */
+    public void handOverToJson(Path jsonFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        if (!Files.exists(filePath)) {
+            return;
+        }
+        if (isNewer(filePath, jsonFilePath)) {
+            exportToJson(jsonFilePath);
+        }
+        supersede(filePath);
+    }
+
+    /**
+     * Returns the path that the data file at {@code filePath} is moved to once the file of the other format replaces
+     * it, which is the same path with {@value #SUPERSEDED_FILE_SUFFIX} appended.
+     */
+    public static Path getSupersededFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SUPERSEDED_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} was modified after the file at {@code otherFilePath}, or the other
+     * file does not exist.
+     */
+    private static boolean isNewer(Path filePath, Path otherFilePath) throws IOException {
+        return !Files.exists(otherFilePath)
+                || Files.getLastModifiedTime(filePath).compareTo(Files.getLastModifiedTime(otherFilePath)) > 0;
+    }
+
+    private static void supersede(Path filePath) throws IOException {
+        Path supersededFilePath = getSupersededFilePath(filePath);
+        Files.move(filePath, supersededFilePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.info("Moved " + filePath + " to " + supersededFilePath);
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Writes an address book in the binary format of {@link BinaryAddressBookStorage}.
+ *
+ * <p>The file starts with a header: the {@link #MAGIC} bytes, the {@link #FORMAT_VERSION} byte, and the length and
+ * CRC-32 checksum of the payload as 4-byte big-endian integers. The payload holds, in order, the string dictionary,
+ * the persons, the events and the linked persons entries, each as a count followed by that many records.
+ * Numbers are unsigned varints and strings are UTF-8, prefixed by their length in bytes. Addresses and tags, which
+ * repeat across records, are stored once in the dictionary and referred to by their index in it.
+ */
+class BinaryAddressBookWriter {
+
+    static final byte[] MAGIC = {'A', 'B', '3', 'B'};
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_LENGTH = MAGIC.length + 1 + Integer.BYTES + Integer.BYTES;
+
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     * A writer can only be used once.
+     */
+    void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        List<Event> events = addressBook.getEventList();
+        List<LinkedPersonsEntry> linkedPersonsEntries =
+                addressBook.getPersonEventManager().getLinkedPersonsEntryList();
+
+        for (Person person : persons) {
+            addToDictionary(person.getAddress().value, person.getTags());
+        }
+        for (Event event : events) {
+            addToDictionary(event.getLocation().value, event.getTags());
+        }
+
+        writeVarint(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(value);
+        }
+
+        writeVarint(persons.size());
+        for (Person person : persons) {
+            writeVarint(person.getId());
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            writeString(person.getEmail().value);
+            writeVarint(dictionary.get(person.getAddress().value));
+            writeTags(person.getTags());
+        }
+
+        writeVarint(events.size());
+        for (Event event : events) {
+            writeVarint(event.getId());
+            writeString(event.getName().fullName);
+            writeVarint(dictionary.get(event.getLocation().value));
+            writeString(event.getStartTime().value);
+            writeTags(event.getTags());
+        }
+
+        writeVarint(linkedPersonsEntries.size());
+        for (LinkedPersonsEntry entry : linkedPersonsEntries) {
+            writeVarint(entry.getEvent().getId());
+            writeVarint(entry.getPersons().size());
+            for (Person person : entry.getPersons()) {
+                writeVarint(person.getId());
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        byte[] payloadBytes = payload.toByteArray();
+        checksum.update(payloadBytes);
+
+        DataOutputStream header = new DataOutputStream(out);
+        header.write(MAGIC);
+        header.writeByte(FORMAT_VERSION);
+        header.writeInt(payloadBytes.length);
+        header.writeInt((int) checksum.getValue());
+        header.write(payloadBytes);
+        header.flush();
+    }
+
+    private void addToDictionary(String address, Set<Tag> tags) {
+        dictionary.putIfAbsent(address, dictionary.size());
+        for (Tag tag : tags) {
+            dictionary.putIfAbsent(tag.tagName, dictionary.size());
+        }
+    }
+
+    private void writeTags(Set<Tag> tags) {
+        writeVarint(tags.size());
+        for (Tag tag : tags) {
+            writeVarint(dictionary.get(tag.tagName));
+        }
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        payload.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the non-negative {@code value} in groups of 7 bits, least significant first, with the high bit of each
+     * byte set if more bytes follow.
+     */
+    private void writeVarint(long value) {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            payload.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        payload.write((int) value);
+    }
+}
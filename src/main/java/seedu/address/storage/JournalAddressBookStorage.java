@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a JSON snapshot plus a journal of the changes made since.
+ * Saving appends a record for each change in the address book's {@link ChangeLog} since the last save to the journal,
+ * which lives next to the snapshot with the {@value #JOURNAL_FILE_SUFFIX} suffix, and syncs them to disk with a single
+ * fsync, so its cost depends on the number of changes and not on the size of the address book.
+ * Once the journal holds more records than the address book has entries, or the change log does not reach back to the
+ * last save, the journal is compacted into a new snapshot.
+ * Reading loads the snapshot and replays the journal on top of it.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 200;
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    /** The change log of the address book last read from or written to {@code filePath}, or null if not known. */
+    private ChangeLog persistedChangeLog;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} whose snapshot is the JSON file at {@code filePath}.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        JournalState state = snapshot.map(JournalState::of).orElseGet(JournalState::new);
+        int recordCount = replayJournal(journalFilePath, state);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = state.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            persistedChangeLog = addressBook.getChangeLog();
+            journalRecordCount = recordCount;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any other path than this storage's own writes a full snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ChangeLog changeLog = addressBook.getChangeLog();
+        Optional<List<AddressBookChange>> changes = persistedChangeLog == null
+                ? Optional.empty()
+                : changeLog.getChangesSince(persistedChangeLog);
+        if (!changes.isPresent()) {
+            compact(addressBook, changeLog);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>(changes.get().size());
+        for (AddressBookChange change : changes.get()) {
+            records.add(JsonAdaptedJournalRecord.of(change));
+        }
+        appendToJournal(records);
+        persistedChangeLog = changeLog;
+        journalRecordCount += records.size();
+
+        int entryCount = addressBook.getPersonList().size() + addressBook.getEventList().size();
+        if (journalRecordCount > Math.max(MIN_RECORDS_BEFORE_COMPACTION, entryCount)) {
+            compact(addressBook, changeLog);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and starts an empty journal.
+     * The snapshot is replaced atomically before the journal is removed, and replaying the old journal over the new
+     * snapshot leaves it unchanged, so the data survives a crash at any point.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, ChangeLog changeLog) throws IOException {
+        logger.fine("Compacting journal of " + filePath + " with " + journalRecordCount + " records");
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        persistedChangeLog = changeLog;
+        journalRecordCount = 0;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toSingleLineJsonString(record)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath}, if any, to {@code state}.
+     * A last line that cannot be read is taken to be a write cut short by a crash and is skipped.
+     *
+     * @return the number of records applied.
+     */
+    private static int replayJournal(Path journalFilePath, JournalState state) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        int recordCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    JsonAdaptedJournalRecord record = readRecord(line, nextLine == null);
+                    if (record != null) {
+                        record.applyTo(state);
+                        recordCount++;
+                    }
+                }
+                line = nextLine;
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Could not replay journal " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        return recordCount;
+    }
+
+    private static JsonAdaptedJournalRecord readRecord(String line, boolean isLastLine) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+        } catch (IOException e) {
+            if (!isLastLine) {
+                throw e;
+            }
+            logger.warning("Skipping incomplete last journal record: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * The contents of an address book keyed by id, as used to replay the journal of a {@link JournalAddressBookStorage}.
+ * Unlike an {@code AddressBook}, it does not enforce any constraints while changes are applied, so journal records
+ * can be replayed in any order that ends in a valid address book.
+ */
+class JournalState {
+
+    private final Map<Long, Person> persons = new LinkedHashMap<>();
+    private final Map<Long, Event> events = new LinkedHashMap<>();
+    private final Map<Long, Set<Long>> eventPersonIds = new LinkedHashMap<>();
+
+    /**
+     * Returns the state of {@code addressBook}.
+     */
+    static JournalState of(ReadOnlyAddressBook addressBook) {
+        JournalState state = new JournalState();
+        for (Person person : addressBook.getPersonList()) {
+            state.putPerson(person);
+        }
+        for (Event event : addressBook.getEventList()) {
+            state.putEvent(event);
+        }
+        for (LinkedPersonsEntry entry : addressBook.getPersonEventManager().getLinkedPersonsEntryList()) {
+            for (Person person : entry.getPersons()) {
+                state.link(person.getId(), entry.getEvent().getId());
+            }
+        }
+        return state;
+    }
+
+    void putPerson(Person person) {
+        persons.put(person.getId(), person);
+    }
+
+    void removePerson(long personId) {
+        persons.remove(personId);
+        for (Set<Long> personIds : eventPersonIds.values()) {
+            personIds.remove(personId);
+        }
+    }
+
+    void clearPersons() {
+        persons.clear();
+        for (Set<Long> personIds : eventPersonIds.values()) {
+            personIds.clear();
+        }
+    }
+
+    void putEvent(Event event) {
+        events.put(event.getId(), event);
+        eventPersonIds.putIfAbsent(event.getId(), new LinkedHashSet<>());
+    }
+
+    void removeEvent(long eventId) {
+        events.remove(eventId);
+        eventPersonIds.remove(eventId);
+    }
+
+    void clearEvents() {
+        events.clear();
+        eventPersonIds.clear();
+    }
+
+    void link(long personId, long eventId) {
+        eventPersonIds.computeIfAbsent(eventId, unused -> new LinkedHashSet<>()).add(personId);
+    }
+
+    void unlink(long personId, long eventId) {
+        Set<Long> personIds = eventPersonIds.get(eventId);
+        if (personIds != null) {
+            personIds.remove(personId);
+        }
+    }
+
+    /**
+     * Converts this state into the model's {@code AddressBook} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        AddressBook.Builder builder = new AddressBook.Builder();
+        for (Person person : persons.values()) {
+            if (builder.hasPerson(person)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON);
+            }
+            builder.addPerson(person);
+        }
+
+        for (Event event : events.values()) {
+            if (builder.hasEvent(event)) {
+                throw new IllegalValueException(JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT);
+            }
+            builder.addEvent(event);
+        }
+
+        for (Map.Entry<Long, Set<Long>> entry : eventPersonIds.entrySet()) {
+            Event event = events.get(entry.getKey());
+            ArrayList<Person> linkedPersons = new ArrayList<>();
+            for (Long personId : entry.getValue()) {
+                if (persons.containsKey(personId)) {
+                    linkedPersons.add(persons.get(personId));
+                }
+            }
+            if (event != null && !linkedPersons.isEmpty()) {
+                builder.addLinkedPersonsEntry(new LinkedPersonsEntry(event, linkedPersons));
+            }
+        }
+        return builder.build();
+    }
+}
@@ -23,6 +23,7 @@ class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String address;
     private final String startTime;
@@ -30,11 +31,14 @@ class JsonAdaptedEvent {
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * {@code id} is null for data files written before ids were stored.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("name") String name, @JsonProperty("address") String address,
+    public JsonAdaptedEvent(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                             @JsonProperty("address") String address,
                              @JsonProperty("startTime") String startTime,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.address = address;
         this.startTime = startTime;
@@ -43,10 +47,18 @@ class JsonAdaptedEvent {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details and no stored id.
+     */
+    public JsonAdaptedEvent(String name, String address, String startTime, List<JsonAdaptedTag> tags) {
+        this(null, name, address, startTime, tags);
+    }
+
     /**
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        id = source.getId();
         name = source.getName().fullName;
         address = source.getLocation().value;
         startTime = source.getStartTime().value;
@@ -55,6 +67,13 @@ class JsonAdaptedEvent {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if the event was stored with its id. A event stored without one takes a new id when converted.
+     */
+    boolean hasStoredId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
      *
@@ -72,7 +91,7 @@ class JsonAdaptedEvent {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofValidated(name);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -80,7 +99,7 @@ class JsonAdaptedEvent {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.ofValidated(address);
 
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -89,10 +108,13 @@ class JsonAdaptedEvent {
         if (!DateTime.isValidDateTime(startTime)) {
             throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
         }
-        final DateTime modelStartTime = new DateTime(startTime);
+        final DateTime modelStartTime = DateTime.ofValidated(startTime);
 
         final Set<Tag> modelTags = new HashSet<>(eventTags);
-        return new Event(modelName, modelAddress, modelStartTime, modelTags);
+        if (id == null) {
+            return new Event(modelName, modelAddress, modelStartTime, modelTags);
+        }
+        return new Event(id, modelName, modelAddress, modelStartTime, modelTags);
     }
 
 }
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to an address book, as appended to the journal of a
+ * {@link JournalAddressBookStorage}.
+ * Persons and events are identified by id. Every record sets state rather than describing a step, so replaying a
+ * record that is already reflected in the data has no further effect.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal contains an unknown operation: %s";
+    public static final String MESSAGE_MISSING_FIELD = "Journal record for operation %s is missing its %s!";
+
+    static final String PUT_PERSON = "putPerson";
+    static final String REMOVE_PERSON = "removePerson";
+    static final String CLEAR_PERSONS = "clearPersons";
+    static final String PUT_EVENT = "putEvent";
+    static final String REMOVE_EVENT = "removeEvent";
+    static final String CLEAR_EVENTS = "clearEvents";
+    static final String LINK = "link";
+    static final String UNLINK = "unlink";
+
+    private final String op;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent event;
+    private final Long personId;
+    private final Long eventId;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("event") JsonAdaptedEvent event, @JsonProperty("personId") Long personId,
+            @JsonProperty("eventId") Long eventId) {
+        this.op = op;
+        this.person = person;
+        this.event = event;
+        this.personId = personId;
+        this.eventId = eventId;
+    }
+
+    /**
+     * Returns the record of {@code change}.
+     */
+    static JsonAdaptedJournalRecord of(AddressBookChange change) {
+        switch (change.getKind()) {
+        case PUT_PERSON:
+            return putPerson(change.getPerson());
+        case REMOVE_PERSON:
+            return removePerson(change.getPersonId());
+        case CLEAR_PERSONS:
+            return clearPersons();
+        case PUT_EVENT:
+            return putEvent(change.getEvent());
+        case REMOVE_EVENT:
+            return removeEvent(change.getEventId());
+        case CLEAR_EVENTS:
+            return clearEvents();
+        case LINK:
+            return link(change.getPersonId(), change.getEventId());
+        case UNLINK:
+            return unlink(change.getPersonId(), change.getEventId());
+        default:
+            throw new AssertionError("Unknown change kind: " + change.getKind());
+        }
+    }
+
+    static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(PUT_PERSON, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord removePerson(long personId) {
+        return new JsonAdaptedJournalRecord(REMOVE_PERSON, null, null, personId, null);
+    }
+
+    static JsonAdaptedJournalRecord clearPersons() {
+        return new JsonAdaptedJournalRecord(CLEAR_PERSONS, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord putEvent(Event event) {
+        return new JsonAdaptedJournalRecord(PUT_EVENT, null, new JsonAdaptedEvent(event), null, null);
+    }
+
+    static JsonAdaptedJournalRecord removeEvent(long eventId) {
+        return new JsonAdaptedJournalRecord(REMOVE_EVENT, null, null, null, eventId);
+    }
+
+    static JsonAdaptedJournalRecord clearEvents() {
+        return new JsonAdaptedJournalRecord(CLEAR_EVENTS, null, null, null, null);
+    }
+
+    static JsonAdaptedJournalRecord link(long personId, long eventId) {
+        return new JsonAdaptedJournalRecord(LINK, null, null, personId, eventId);
+    }
+
+    static JsonAdaptedJournalRecord unlink(long personId, long eventId) {
+        return new JsonAdaptedJournalRecord(UNLINK, null, null, personId, eventId);
+    }
+
+    /**
+     * Applies this record to {@code state}.
+     *
+     * @throws IllegalValueException if the record is malformed or contains invalid person or event details.
+     */
+    void applyTo(JournalState state) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+
+        switch (op) {
+        case PUT_PERSON:
+            state.putPerson(require(person, "person").toModelType());
+            break;
+        case REMOVE_PERSON:
+            state.removePerson(require(personId, "personId"));
+            break;
+        case CLEAR_PERSONS:
+            state.clearPersons();
+            break;
+        case PUT_EVENT:
+            state.putEvent(require(event, "event").toModelType());
+            break;
+        case REMOVE_EVENT:
+            state.removeEvent(require(eventId, "eventId"));
+            break;
+        case CLEAR_EVENTS:
+            state.clearEvents();
+            break;
+        case LINK:
+            state.link(require(personId, "personId"), require(eventId, "eventId"));
+            break;
+        case UNLINK:
+            state.unlink(require(personId, "personId"), require(eventId, "eventId"));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, op));
+        }
+    }
+
+    private <T> T require(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD, op, fieldName));
+        }
+        return field;
+    }
+}
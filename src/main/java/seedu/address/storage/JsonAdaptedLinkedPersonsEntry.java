@@ -2,57 +2,108 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.types.common.LinkedPersonsEntry;
+import seedu.address.model.types.event.Event;
 import seedu.address.model.types.person.Person;
 
 /**
  * Jackson-friendly version of {@link LinkedPersonsEntry}.
+ * The event and persons are referred to by id. Data files written before schema version
+ * {@value JsonAddressBookReader#SCHEMA_VERSION} embed a full copy of them instead, which can still be read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedLinkedPersonsEntry {
 
-    private final JsonAdaptedEvent event;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Linked persons entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_ID = "Linked persons entry refers to an unknown %s id: %d";
+
+    private final Long eventId;
+    private final List<Long> personIds;
 
+    private final JsonAdaptedEvent event;
     private final List<JsonAdaptedPerson> persons;
 
     /**
      * Constructs a {@code JsonAdaptedLinkedPersonsEntry} with the given linked persons entry details.
+     * Either the ids or, for older data files, the embedded event and persons are given.
      */
     @JsonCreator
-    public JsonAdaptedLinkedPersonsEntry(@JsonProperty("event") JsonAdaptedEvent event,
+    public JsonAdaptedLinkedPersonsEntry(@JsonProperty("eventId") Long eventId,
+                                         @JsonProperty("personIds") List<Long> personIds,
+                                         @JsonProperty("event") JsonAdaptedEvent event,
                                          @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.eventId = eventId;
+        this.personIds = personIds;
         this.event = event;
         this.persons = persons;
     }
 
     /**
-     * Converts a given {@code LinkedPersonsEntry} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedLinkedPersonsEntry} that embeds the given event and persons, as in data files
+     * written before schema version {@value JsonAddressBookReader#SCHEMA_VERSION}.
      */
-    public JsonAdaptedLinkedPersonsEntry(LinkedPersonsEntry source) {
-        this.event = new JsonAdaptedEvent(source.getEvent());
-        this.persons = source.getPersons().stream()
-                .map(JsonAdaptedPerson::new)
-                .collect(Collectors.toList());
+    public JsonAdaptedLinkedPersonsEntry(JsonAdaptedEvent event, List<JsonAdaptedPerson> persons) {
+        this(null, null, event, persons);
+    }
+
+    /**
+     * Returns true if this entry embeds its event and persons, as in data files written before schema version
+     * {@value JsonAddressBookReader#SCHEMA_VERSION}.
+     */
+    boolean isEmbedded() {
+        return eventId == null && event != null;
     }
 
     /**
      * Converts this Jackson-friendly adapted linked persons entry object into the model's {@code LinkedPersonsEntry}
-     * object.
+     * object, looking up the event and persons it refers to in {@code eventsById} and {@code personsById}.
+     * An embedded entry is converted from its own copies instead, which the address book resolves by identity.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted linked persons entry.
      */
-    public LinkedPersonsEntry toModelType() throws IllegalValueException {
+    public LinkedPersonsEntry toModelType(Map<Long, Person> personsById, Map<Long, Event> eventsById)
+            throws IllegalValueException {
+        if (isEmbedded()) {
+            return toModelTypeFromEmbedded();
+        }
+
+        if (eventId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "eventId"));
+        }
+        Event modelEvent = eventsById.get(eventId);
+        if (modelEvent == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ID, "event", eventId));
+        }
+
+        ArrayList<Person> modelPersons = new ArrayList<>();
+        if (personIds != null) {
+            for (Long personId : personIds) {
+                Person person = personsById.get(personId);
+                if (person == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ID, "person", personId));
+                }
+                modelPersons.add(person);
+            }
+        }
+        return new LinkedPersonsEntry(modelEvent, modelPersons);
+    }
+
+    private LinkedPersonsEntry toModelTypeFromEmbedded() throws IllegalValueException {
         ArrayList<Person> modelPersons = new ArrayList<>();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            try {
-                modelPersons.add(jsonAdaptedPerson.toModelType());
-            } catch (IllegalValueException e) {
-                throw new IllegalValueException("Error converting JsonAdaptedPerson to Person: " + e.getMessage());
+        if (persons != null) {
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                try {
+                    modelPersons.add(jsonAdaptedPerson.toModelType());
+                } catch (IllegalValueException e) {
+                    throw new IllegalValueException("Error converting JsonAdaptedPerson to Person: " + e.getMessage());
+                }
             }
         }
         return new LinkedPersonsEntry(event.toModelType(), modelPersons);
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Reads an address book from JSON token by token, converting records into model objects in batches as they are read.
+ * It accepts every schema version of the layout written by {@link JsonAddressBookWriter}, but only a batch of records
+ * is held in its JSON form at any time. Each batch is converted in parallel.
+ * Linked persons entries refer to persons and events by id. Files without a {@code schemaVersion}, written before
+ * that, embed full copies in their entries instead and are still read.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_ID = "Data file contains duplicate id(s).";
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Data file has schema version %d, but only versions up to %d are supported.";
+
+    /** The version of the layout written by {@link JsonAddressBookWriter}. Versions before 2 do not store it. */
+    public static final int SCHEMA_VERSION = 2;
+
+    /**
+     * The number of persons or events that are read before they are converted together, which bounds the number of
+     * records held in their JSON form while still giving {@link RecordConverter} enough work to split.
+     * Records stored without an id are the exception, and are held until the end of their array.
+     */
+    static final int BATCH_SIZE = 4096;
+
+    /** The share of the input, in percent, that is read between two progress reports. */
+    private static final int PROGRESS_STEP_PERCENT = 1;
+
+    private final JsonAddressBookStorage.LoadProgressListener progressListener;
+
+    private final AddressBook.Builder builder = new AddressBook.Builder();
+    private final Map<Long, Person> personsById = new HashMap<>();
+    private final Map<Long, Event> eventsById = new HashMap<>();
+    private final List<JsonAdaptedLinkedPersonsEntry> pendingLinkedPersonsEntries = new ArrayList<>();
+    private Integer schemaVersion;
+    private boolean hasReadPersons;
+    private boolean hasReadEvents;
+
+    private long totalBytes;
+    private long lastReportedBytes = -1;
+
+    /**
+     * Creates a reader that reports its progress to {@code progressListener}, which may be null.
+     */
+    JsonAddressBookReader(JsonAddressBookStorage.LoadProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Reads the address book in {@code in}, which holds {@code totalBytes} bytes of UTF-8 encoded JSON.
+     * A reader can only be used once.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read(InputStream in, long totalBytes) throws IOException, IllegalValueException {
+        this.totalBytes = totalBytes;
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "schemaVersion":
+                    schemaVersion = parser.readValueAs(Integer.class);
+                    checkSchemaVersion(schemaVersion);
+                    break;
+                case "persons":
+                    readPersons(parser);
+                    hasReadPersons = true;
+                    break;
+                case "events":
+                    readEvents(parser);
+                    hasReadEvents = true;
+                    break;
+                case "linkedPersonsEntries":
+                case "linkedPersonEntries":
+                    readLinkedPersonsEntries(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+                reportProgress(parser);
+            }
+        }
+
+        for (JsonAdaptedLinkedPersonsEntry linkedPersonsEntry : pendingLinkedPersonsEntries) {
+            builder.addLinkedPersonsEntry(linkedPersonsEntry.toModelType(personsById, eventsById));
+        }
+        if (progressListener != null && lastReportedBytes != totalBytes) {
+            progressListener.onProgress(totalBytes, totalBytes);
+        }
+        return builder.build();
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        RecordConverter<JsonAdaptedPerson, Person> converter = new RecordConverter<>(JsonAdaptedPerson::toModelType,
+                record -> !record.hasStoredId(), this::addPerson);
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            if (batch.size() == BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+                reportProgress(parser);
+            }
+        }
+        converter.convert(batch);
+        converter.finish();
+    }
+
+    private void addPerson(Person person) throws IllegalValueException {
+        if (builder.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (personsById.putIfAbsent(person.getId(), person) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        }
+        builder.addPerson(person);
+    }
+
+    private void readEvents(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        RecordConverter<JsonAdaptedEvent, Event> converter = new RecordConverter<>(JsonAdaptedEvent::toModelType,
+                record -> !record.hasStoredId(), this::addEvent);
+        List<JsonAdaptedEvent> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(parser.readValueAs(JsonAdaptedEvent.class));
+            if (batch.size() == BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+                reportProgress(parser);
+            }
+        }
+        converter.convert(batch);
+        converter.finish();
+    }
+
+    private void addEvent(Event event) throws IllegalValueException {
+        if (builder.hasEvent(event)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+        }
+        if (eventsById.putIfAbsent(event.getId(), event) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        }
+        builder.addEvent(event);
+    }
+
+    /**
+     * Returns true if the address book read was written in an older schema version than
+     * {@link #SCHEMA_VERSION}.
+     */
+    boolean hasOutdatedSchema() {
+        return getSchemaVersion() < SCHEMA_VERSION;
+    }
+
+    /**
+     * Returns the schema version the address book read was written in. Files that do not store it are version 1.
+     */
+    int getSchemaVersion() {
+        return schemaVersion == null ? 1 : schemaVersion;
+    }
+
+    /**
+     * Checks that data with the given {@code schemaVersion}, which is null for files written before versions were
+     * stored, can be read.
+     *
+     * @throws IllegalValueException if the data was written by a newer version of the app.
+     */
+    static void checkSchemaVersion(Integer schemaVersion) throws IllegalValueException {
+        if (schemaVersion != null && schemaVersion > SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION,
+                    schemaVersion, SCHEMA_VERSION));
+        }
+    }
+
+    /**
+     * Reads the linked persons entries.
+     * Entries are added right away once all persons and events have been read, and are otherwise kept until the end.
+     */
+    private void readLinkedPersonsEntries(JsonParser parser) throws IOException, IllegalValueException {
+        if (!startArray(parser)) {
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedLinkedPersonsEntry linkedPersonsEntry = parser.readValueAs(JsonAdaptedLinkedPersonsEntry.class);
+            if (hasReadPersons && hasReadEvents) {
+                builder.addLinkedPersonsEntry(linkedPersonsEntry.toModelType(personsById, eventsById));
+            } else {
+                pendingLinkedPersonsEntries.add(linkedPersonsEntry);
+            }
+            reportProgress(parser);
+        }
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null value.
+     *
+     * @throws JsonParseException if the parser is at any other value.
+     */
+    private static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array for " + parser.getCurrentName());
+        }
+        return true;
+    }
+
+    private void reportProgress(JsonParser parser) {
+        long bytesRead = parser.getCurrentLocation().getByteOffset();
+        long progressStep = Math.max(1, totalBytes * PROGRESS_STEP_PERCENT / 100);
+        if (progressListener == null || bytesRead < lastReportedBytes + progressStep) {
+            return;
+        }
+        progressListener.onProgress(bytesRead, totalBytes);
+        lastReportedBytes = bytesRead;
+    }
+}
@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,7 +14,6 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -19,18 +21,47 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /**
+     * Receives the progress of reading an address book file.
+     */
+    @FunctionalInterface
+    public interface LoadProgressListener {
+        /**
+         * Called as the file is read, and once more when all of it has been read.
+         */
+        void onProgress(long bytesRead, long totalBytes);
+    }
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final JsonAddressBookWriter writer;
+    private LoadProgressListener loadProgressListener;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath},
+     * which indents the JSON it saves if {@code isPrettyPrinted} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.writer = new JsonAddressBookWriter(isPrettyPrinted);
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Sets the listener to report the progress of reading address book files to, or none if it is null.
+     */
+    public void setLoadProgressListener(LoadProgressListener loadProgressListener) {
+        this.loadProgressListener = loadProgressListener;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,18 +76,56 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        JsonAddressBookReader reader = new JsonAddressBookReader(loadProgressListener);
+        ReadOnlyAddressBook addressBook;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            addressBook = reader.read(in, Files.size(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (reader.hasOutdatedSchema()) {
+            migrate(addressBook, filePath, reader.getSchemaVersion());
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Rewrites the file at {@code filePath}, which holds {@code addressBook} in the older schema version
+     * {@code schemaVersion}, in the current one.
+     * The old file is first copied to the path returned by {@link #getBackupFilePath(Path, int)}, so that it can still
+     * be read by the versions of the application that wrote it. An existing backup is kept, as it is the oldest copy.
+     * The old file is left as it is if the backup or the rewrite fails, as it can still be read.
+     */
+    private void migrate(ReadOnlyAddressBook addressBook, Path filePath, int schemaVersion) {
+        Path backupFilePath = getBackupFilePath(filePath, schemaVersion);
+        logger.info("Migrating " + filePath + " to schema version " + JsonAddressBookReader.SCHEMA_VERSION
+                + ", with a backup at " + backupFilePath);
+        try {
+            if (!Files.exists(backupFilePath)) {
+                Files.copy(filePath, backupFilePath);
+            }
+            saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            logger.warning("Could not migrate " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the path that the file at {@code filePath} is backed up to before it is migrated from the schema version
+     * {@code schemaVersion}, e.g. {@code addressbook.json.v1.bak}.
+     */
+    public static Path getBackupFilePath(Path filePath, int schemaVersion) {
+        return filePath.resolveSibling(filePath.getFileName() + ".v" + schemaVersion + ".bak");
     }
 
     @Override
@@ -73,8 +142,8 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> writer.write(addressBook, out));
     }
 
 }
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.types.event.Event;
+import seedu.address.model.types.person.Person;
+
+/**
+ * Writes an address book as JSON token by token, straight from the model objects.
+ * The output is read back by {@link JsonAddressBookReader}, and neither the adapter objects nor the document as a
+ * whole are built in memory.
+ */
+class JsonAddressBookWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean isPrettyPrinted;
+
+    /**
+     * Creates a writer that indents its output if {@code isPrettyPrinted} is true.
+     */
+    JsonAddressBookWriter(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as UTF-8 encoded JSON.
+     */
+    void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+
+            generator.writeStartObject();
+            generator.writeNumberField("schemaVersion", JsonAddressBookReader.SCHEMA_VERSION);
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(generator, person);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("events");
+            for (Event event : addressBook.getEventList()) {
+                writeEvent(generator, event);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("linkedPersonsEntries");
+            writeLinkedPersonsEntries(generator, addressBook.getLinkIds());
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", person.getId());
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        writeTags(generator, person.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeEvent(JsonGenerator generator, Event event) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", event.getId());
+        generator.writeStringField("name", event.getName().fullName);
+        generator.writeStringField("address", event.getLocation().value);
+        generator.writeStringField("startTime", event.getStartTime().value);
+        writeTags(generator, event.getTags());
+        generator.writeEndObject();
+    }
+
+    private static void writeTags(JsonGenerator generator, Set<Tag> tags) throws IOException {
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : tags) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes an entry for each event in {@code linkIds}, laid out as by {@code PersonEventManager#toLinkIds()},
+     * straight from the ids.
+     */
+    private static void writeLinkedPersonsEntries(JsonGenerator generator, long[] linkIds) throws IOException {
+        int i = 0;
+        while (i < linkIds.length) {
+            generator.writeStartObject();
+            generator.writeNumberField("eventId", linkIds[i++]);
+            long personCount = linkIds[i++];
+            generator.writeArrayFieldStart("personIds");
+            for (long j = 0; j < personCount; j++) {
+                generator.writeNumber(linkIds[i++]);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
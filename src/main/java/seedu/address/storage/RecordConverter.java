@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the records of one array read from storage into model objects, batch by batch, spreading the work of large
+ * batches over the common fork-join pool.
+ * Converting a record validates all of its fields, which is most of the cost of loading and does not depend on any
+ * other record, so the records can be converted in any order. The model objects are still handed to the receiver, and
+ * each failure reported, in the order of the records, so that loading fails with the same message as converting and
+ * checking them one by one.
+ * Records whose conversion depends on the order they are converted in, such as those that take the next new id, are
+ * converted on the calling thread in their order once the whole array has been read, after all the other records,
+ * so that they never take an id that a later record was stored with.
+ */
+class RecordConverter<R, M> {
+
+    /** Batches smaller than this are converted on the calling thread, as splitting them costs more than it saves. */
+    static final int MIN_PARALLEL_BATCH_SIZE = 256;
+
+    /**
+     * Converts a single record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<R, M> {
+        M convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives a converted model object, e.g. to check it against the ones received before.
+     */
+    @FunctionalInterface
+    interface Receiver<M> {
+        void receive(M model) throws IllegalValueException;
+    }
+
+    private final Conversion<R, M> conversion;
+    private final Predicate<R> isSequential;
+    private final Receiver<M> receiver;
+
+    /** The records that have not been handed to the receiver yet, in their order. */
+    private final Deque<Slot<R, M>> pending = new ArrayDeque<>();
+
+    /**
+     * Creates a converter that converts records by {@code conversion} and hands the results to {@code receiver}.
+     * The records that match {@code isSequential} are converted one by one in their order, after all the others, so
+     * that converting them gives the same results on every run.
+     */
+    RecordConverter(Conversion<R, M> conversion, Predicate<R> isSequential, Receiver<M> receiver) {
+        this.conversion = requireNonNull(conversion);
+        this.isSequential = requireNonNull(isSequential);
+        this.receiver = requireNonNull(receiver);
+    }
+
+    /**
+     * Converts the next batch of records, which follow the ones converted before, and hands the model objects to the
+     * receiver as far as every record before them has been converted.
+     *
+     * @throws IllegalValueException the exception thrown by converting or receiving the first record that failed.
+     */
+    void convert(List<R> records) throws IllegalValueException {
+        List<Slot<R, M>> slots = new ArrayList<>(records.size());
+        for (R record : records) {
+            slots.add(new Slot<>(record, isSequential.test(record)));
+        }
+
+        Stream<Slot<R, M>> toConvert = slots.stream();
+        if (slots.size() >= MIN_PARALLEL_BATCH_SIZE) {
+            toConvert = toConvert.parallel();
+        }
+        toConvert.filter(slot -> !slot.isSequential).forEach(slot -> slot.convert(conversion));
+
+        pending.addAll(slots);
+        deliver();
+    }
+
+    /**
+     * Converts the remaining records, once all records have been given, and hands every model object left to the
+     * receiver.
+     *
+     * @throws IllegalValueException the exception thrown by converting or receiving the first record that failed.
+     */
+    void finish() throws IllegalValueException {
+        for (Slot<R, M> slot : pending) {
+            if (!slot.isConverted()) {
+                slot.convert(conversion);
+            }
+        }
+        deliver();
+    }
+
+    private void deliver() throws IllegalValueException {
+        while (!pending.isEmpty() && pending.peekFirst().isConverted()) {
+            Slot<R, M> slot = pending.pollFirst();
+            if (slot.error != null) {
+                throw slot.error;
+            }
+            receiver.receive(slot.model);
+        }
+    }
+
+    /**
+     * A record, and the model object converted from it or the exception thrown while converting it once it has been
+     * converted.
+     */
+    private static class Slot<R, M> {
+        private final boolean isSequential;
+        private R record;
+        private boolean isConverted;
+        private M model;
+        private IllegalValueException error;
+
+        private Slot(R record, boolean isSequential) {
+            this.record = record;
+            this.isSequential = isSequential;
+        }
+
+        boolean isConverted() {
+            return isConverted;
+        }
+
+        void convert(Conversion<R, M> conversion) {
+            try {
+                model = conversion.convert(record);
+            } catch (IllegalValueException e) {
+                error = e;
+            }
+            record = null;
+            isConverted = true;
+        }
+    }
+}
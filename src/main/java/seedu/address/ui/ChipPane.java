@@ -0,0 +1,39 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+
+/**
+ * Updates the chip labels shown in a pane, such as the tags of a card.
+ */
+class ChipPane {
+
+    private ChipPane() {}
+
+    /**
+     * Makes the children of {@code pane} one label per entry of {@code texts}, in order.
+     * Existing labels are reused and only relabelled where the text differs, so rebinding a card to
+     * similar data touches as few nodes as possible.
+     */
+    static void setChips(Pane pane, List<String> texts) {
+        ObservableList<Node> chips = pane.getChildren();
+        int reused = Math.min(chips.size(), texts.size());
+        for (int i = 0; i < reused; i++) {
+            Label chip = (Label) chips.get(i);
+            if (!chip.getText().equals(texts.get(i))) {
+                chip.setText(texts.get(i));
+            }
+        }
+
+        if (chips.size() > texts.size()) {
+            chips.remove(texts.size(), chips.size());
+        }
+        for (int i = reused; i < texts.size(); i++) {
+            chips.add(new Label(texts.get(i)));
+        }
+    }
+}
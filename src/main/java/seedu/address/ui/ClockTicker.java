@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+import seedu.address.model.types.common.DateTimeUtil;
+
+/**
+ * An app-wide clock that notifies its subscribers at the start of every minute.
+ * Subscribers are held weakly, so UI parts that are discarded without unsubscribing are dropped automatically.
+ * The underlying {@code Timeline} only runs while there are subscribers.
+ */
+public class ClockTicker {
+
+    private static final ClockTicker INSTANCE = new ClockTicker();
+
+    private final Set<Listener> listeners = Collections.newSetFromMap(new WeakHashMap<>());
+    private Timeline timeline;
+
+    /**
+     * Receives the current time on every tick.
+     */
+    public interface Listener {
+        void onTick(LocalDateTime now);
+    }
+
+    private ClockTicker() {}
+
+    public static ClockTicker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Notifies {@code listener} on every tick until it is unsubscribed or garbage collected.
+     */
+    public void subscribe(Listener listener) {
+        requireNonNull(listener);
+        listeners.add(listener);
+        if (timeline == null) {
+            start();
+        }
+    }
+
+    /**
+     * Stops notifying {@code listener}.
+     */
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    private void start() {
+        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
+        long millisToNextMinute = ChronoUnit.MILLIS.between(now, now.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1));
+
+        // The tick is at the start of each cycle so that, after the delay, ticks land on minute boundaries.
+        timeline = new Timeline(new KeyFrame(Duration.ZERO, e -> tick()), new KeyFrame(Duration.minutes(1)));
+        timeline.setDelay(Duration.millis(millisToNextMinute));
+        timeline.setCycleCount(Timeline.INDEFINITE);
+        timeline.play();
+    }
+
+    private void tick() {
+        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
+        for (Listener listener : new ArrayList<>(listeners)) {
+            listener.onTick(now);
+        }
+
+        if (listeners.isEmpty()) {
+            timeline.stop();
+            timeline = null;
+        }
+    }
+}
@@ -2,9 +2,8 @@ package seedu.address.ui;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.stream.Collectors;
 
-import javafx.animation.Timeline;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -17,9 +16,12 @@ import seedu.address.model.types.event.Event;
 /**
  * A UI component that displays information of a {@code Event}.
  */
-public class EventCard extends UiPart<Region> {
+public class EventCard extends UiPart<Region> implements ClockTicker.Listener {
 
     private static final String FXML = "EventListCard.fxml";
+    private static final String STYLE_COMPLETED = "event-status-completed";
+    private static final String STYLE_ONGOING = "event-status-ongoing";
+    private static final String STYLE_INCOMPLETE = "event-status-incomplete";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -29,7 +31,7 @@ public class EventCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Event event;
+    private Event event;
 
     @FXML
     private HBox cardPane;
@@ -51,28 +53,54 @@ public class EventCard extends UiPart<Region> {
      */
     public EventCard(Event event, int displayedIndex) {
         super(FXML);
+        setEvent(event, displayedIndex);
+    }
+
+    /**
+     * Shows the given {@code Event} and index on this card, reusing its existing nodes.
+     * The status label keeps updating until the event is completed or {@link #stopUpdatingStatus()} is called.
+     */
+    public void setEvent(Event event, int displayedIndex) {
         this.event = event;
         id.setText(displayedIndex + ". ");
         name.setText(event.getName().fullName);
         address.setText(event.getLocation().value);
         time.setText(event.getStartTime().value);
-        event.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        setEventStatusLabel(event.getStartTime());
-        initializeUpdateTimeline();
+        ChipPane.setChips(tags, event.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+        if (setEventStatusLabel(event.getStartTime(), DateTimeUtil.getCurrentDateTime())) {
+            stopUpdatingStatus();
+        } else {
+            ClockTicker.getInstance().subscribe(this);
+        }
+    }
+
+    public Event getEvent() {
+        return event;
     }
 
-    private void initializeUpdateTimeline() {
-        Timeline updateTimeline = DateTimeUtil.createTimeline(() -> {
-            setEventStatusLabel(this.event.getStartTime());
-        });
-        updateTimeline.play();
+    /**
+     * Stops updating the status label of this card.
+     */
+    public void stopUpdatingStatus() {
+        ClockTicker.getInstance().unsubscribe(this);
+    }
+
+    @Override
+    public void onTick(LocalDateTime now) {
+        if (setEventStatusLabel(event.getStartTime(), now)) {
+            stopUpdatingStatus();
+        }
     }
 
-    private void setEventStatusLabel(DateTime startTime) {
+    /**
+     * Updates the status label for the given time and returns true if the event is completed,
+     * in which case the label will not change again.
+     */
+    private boolean setEventStatusLabel(DateTime startTime, LocalDateTime now) {
         LocalDateTime eventStart = startTime.toLocalDateTime();
-        LocalDateTime now = DateTimeUtil.getCurrentDateTime();
         Duration duration = Duration.between(now, eventStart);
 
         String statusText;
@@ -80,17 +108,21 @@ public class EventCard extends UiPart<Region> {
 
         if (duration.isNegative()) {
             statusText = "Completed";
-            styleClass = "event-status-completed";
+            styleClass = STYLE_COMPLETED;
         } else if (duration.isZero()) {
             statusText = "Ongoing";
-            styleClass = "event-status-ongoing";
+            styleClass = STYLE_ONGOING;
         } else {
-            styleClass = "event-status-incomplete";
+            styleClass = STYLE_INCOMPLETE;
             statusText = calculateRemainingTimeText(duration, now, eventStart);
         }
 
         statusLabel.setText(statusText);
-        statusLabel.getStyleClass().add(styleClass);
+        if (!statusLabel.getStyleClass().contains(styleClass)) {
+            statusLabel.getStyleClass().removeAll(STYLE_COMPLETED, STYLE_ONGOING, STYLE_INCOMPLETE);
+            statusLabel.getStyleClass().add(styleClass);
+        }
+        return styleClass.equals(STYLE_COMPLETED);
     }
 
     private String calculateRemainingTimeText(Duration duration, LocalDateTime now, LocalDateTime eventStart) {
@@ -32,18 +32,30 @@ public class EventListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Event} using a {@code EventCard}.
+     * The card is created once per cell and rebound whenever the cell is reused for another item.
      */
     class EventListViewCell extends ListCell<Event> {
+        private EventCard eventCard;
+
         @Override
         protected void updateItem(Event event, boolean empty) {
             super.updateItem(event, empty);
 
             if (empty || event == null) {
+                if (eventCard != null) {
+                    eventCard.stopUpdatingStatus();
+                }
                 setGraphic(null);
                 setText(null);
+                return;
+            }
+
+            if (eventCard == null) {
+                eventCard = new EventCard(event, getIndex() + 1);
             } else {
-                setGraphic(new EventCard(event, getIndex() + 1).getRoot());
+                eventCard.setEvent(event, getIndex() + 1);
             }
+            setGraphic(eventCard.getRoot());
         }
     }
 
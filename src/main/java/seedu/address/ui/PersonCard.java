@@ -1,7 +1,7 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -26,7 +26,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -50,17 +50,30 @@ public class PersonCard extends UiPart<Region> {
      */
     public PersonCard(Person person, int displayedIndex, Set<Event> associatedEvents) {
         super(FXML);
+        setPerson(person, displayedIndex, associatedEvents);
+    }
+
+    /**
+     * Shows the given {@code Person} and index on this card, reusing its existing nodes.
+     */
+    public void setPerson(Person person, int displayedIndex, Set<Event> associatedEvents) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        associatedEvents.stream()
-            .sorted(Comparator.comparing(event -> event.getName().toString()))
-            .forEach(event -> eventNameTag.getChildren().add(new Label(event.getName().toString())));
+        ChipPane.setChips(tags, person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .collect(Collectors.toList()));
+        ChipPane.setChips(eventNameTag, associatedEvents.stream()
+                .map(event -> event.getName().toString())
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    public Person getPerson() {
+        return person;
     }
 }
@@ -1,9 +1,7 @@
 package seedu.address.ui;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -24,22 +22,26 @@ public class PersonListPanel extends UiPart<Region> {
 
     @FXML
     private ListView<Person> personListView;
-    private Map<Event, ArrayList<Person>> personEventAssociationMap;
+    private final Function<Person, Set<Event>> linkedEventsLookup;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * {@code linkedEventsLookup} returns the events each displayed person is linked to.
      */
-    public PersonListPanel(ObservableList<Person> personList, Map<Event, ArrayList<Person>> personEventAssociationMap) {
+    public PersonListPanel(ObservableList<Person> personList, Function<Person, Set<Event>> linkedEventsLookup) {
         super(FXML);
-        this.personEventAssociationMap = personEventAssociationMap;
+        this.linkedEventsLookup = linkedEventsLookup;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The card is created once per cell and rebound whenever the cell is reused for another item.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -47,25 +49,17 @@ public class PersonListPanel extends UiPart<Region> {
             if (empty || person == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                Set<Event> associatedEvents = findEventsForPerson(person);
-                setGraphic(new PersonCard(person, getIndex() + 1, associatedEvents).getRoot());
+                return;
             }
-        }
-    }
 
-    /**
-     * Finds all event names associated with the given person.
-     */
-    private Set<Event> findEventsForPerson(Person person) {
-        Set<Event> events = new HashSet<>();
-        for (Event event : personEventAssociationMap.keySet()) {
-            ArrayList<Person> persons = personEventAssociationMap.get(event);
-            if (persons != null && persons.contains(person)) {
-                events.add(event);
+            Set<Event> associatedEvents = linkedEventsLookup.apply(person);
+            if (personCard == null) {
+                personCard = new PersonCard(person, getIndex() + 1, associatedEvents);
+            } else {
+                personCard.setPerson(person, getIndex() + 1, associatedEvents);
             }
+            setGraphic(personCard.getRoot());
         }
-        return events;
     }
 
     public void refreshPersonListView() {
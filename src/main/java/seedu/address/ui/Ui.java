@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code message}, the error of a save that failed as the app was stopping, and waits for it to be read. */
+    void showSaveError(String message);
+
 }
@@ -50,6 +50,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showSaveError(String message) {
+        Stage owner = mainWindow == null ? null : mainWindow.getPrimaryStage();
+        showAlertDialogAndWait(owner, AlertType.ERROR, "Could not save data", "Your latest changes were not saved.",
+                message);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
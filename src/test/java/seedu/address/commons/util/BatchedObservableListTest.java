@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void changeTogether_severalModifications_publishedInSingleChange() {
+        list.addAll(List.of("a", "b", "c"));
+        list.addListener(changes::add);
+
+        list.changeTogether(() -> {
+            list.remove(0, 2);
+            list.addAll(List.of("d", "e"));
+            list.set(0, "f");
+        });
+
+        assertEquals(List.of("f", "d", "e"), list);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void move_downAndUp_shiftsElementsBetweenInSingleChange() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        list.addListener(changes::add);
+
+        list.move(0, 2, "x");
+        assertEquals(List.of("b", "c", "x", "d"), list);
+        assertEquals(1, changes.size());
+
+        list.move(2, 0, "y");
+        assertEquals(List.of("y", "b", "c", "d"), list);
+        assertEquals(2, changes.size());
+
+        list.move(3, 3, "z");
+        assertEquals(List.of("y", "b", "c", "z"), list);
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void addAllAndRemoveRange_middleOfList_success() {
+        list.addAll(List.of("a", "d"));
+        list.addAll(1, List.of("b", "c"));
+        assertEquals(List.of("a", "b", "c", "d"), list);
+
+        list.remove(1, 3);
+        assertEquals(List.of("a", "d"), list);
+
+        list.setAll(List.of("e"));
+        assertEquals(List.of("e"), list);
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class StagedObservableListTest {
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+    private final StagedObservableList<String> list = new StagedObservableList<>(source);
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Test
+    public void sourceChanged_notStaging_followsEachChange() {
+        list.addListener(changes::add);
+
+        source.add("d");
+        source.remove("a");
+        source.set(0, "e");
+
+        assertEquals(List.of("e", "c", "d"), list);
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void publishStaged_severalChanges_publishedInSingleChange() {
+        list.addListener(changes::add);
+
+        list.startStaging();
+        assertTrue(list.isStaging());
+        source.add("d");
+        source.remove(0, 2);
+        source.add(0, "e");
+        source.sort(null);
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(0, changes.size());
+
+        list.publishStaged();
+        assertFalse(list.isStaging());
+        assertEquals(source, list);
+        assertEquals(1, changes.size());
+
+        source.add("f");
+        assertEquals(source, list);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void discardStaged_sourceChangedBack_noChange() {
+        list.addListener(changes::add);
+
+        list.startStaging();
+        source.add("d");
+        source.remove("d");
+        list.discardStaged();
+
+        assertFalse(list.isStaging());
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    public void discardStaged_sourceNotChangedBack_copiedInSingleChange() {
+        list.addListener(changes::add);
+
+        list.startStaging();
+        source.add("d");
+        source.remove("a");
+        list.discardStaged();
+
+        assertEquals(source, list);
+        assertEquals(1, changes.size());
+    }
+}
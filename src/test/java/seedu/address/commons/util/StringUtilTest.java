@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,27 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc 12", StringUtil.foldCase("aBC 12"));
+
+        String[] words = {"friends", "FRIENDS", "Friend", "\u0131", "i", "I", "\u212a", "k", "stra\u00dfe"};
+        for (String word : words) {
+            for (String other : words) {
+                assertEquals(word.equalsIgnoreCase(other),
+                        StringUtil.foldCase(word).equals(StringUtil.foldCase(other)));
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,31 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class BeginCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noTransaction_beginsTransaction() throws Exception {
+        CommandResult result = new BeginCommand().execute(model);
+
+        assertEquals(new CommandResult(BeginCommand.MESSAGE_SUCCESS), result);
+        assertTrue(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_inTransaction_throwsCommandException() {
+        model.beginTransaction();
+        assertCommandFailure(new BeginCommand(), model, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION);
+    }
+}
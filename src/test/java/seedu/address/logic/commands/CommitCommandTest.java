@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommitCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_inTransaction_appliesChanges() throws Exception {
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+
+        CommandResult result = new CommitCommand().execute(model);
+
+        assertEquals(new CommandResult(CommitCommand.MESSAGE_SUCCESS, false, false, true), result);
+        assertFalse(model.isInTransaction());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertCommandFailure(new CommitCommand(), model, CommitCommand.MESSAGE_NO_TRANSACTION);
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class RollbackCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_inTransaction_discardsChanges() throws Exception {
+        model.beginTransaction();
+        model.deletePerson(ALICE);
+
+        CommandResult result = new RollbackCommand().execute(model);
+
+        assertEquals(new CommandResult(RollbackCommand.MESSAGE_SUCCESS), result);
+        assertFalse(model.isInTransaction());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertCommandFailure(new RollbackCommand(), model, CommitCommand.MESSAGE_NO_TRANSACTION);
+    }
+}
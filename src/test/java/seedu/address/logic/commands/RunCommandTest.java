@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand.OnError;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.personcommands.DeletePersonCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for RunCommand.
+ */
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validScript_runsEachCommand() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of("# clear the people", "", "delete p 1", "  list  "));
+
+        CommandResult result = new RunCommand(scriptPath, OnError.STOP).execute(model);
+
+        assertEquals(String.format(BatchResult.MESSAGE_SUMMARY, 2, 2, 2, 0), result.getFeedbackToUser());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void execute_missingScript_throwsCommandException() {
+        Path scriptPath = temporaryFolder.resolve("missing.txt");
+        assertThrows(CommandException.class, () -> new RunCommand(scriptPath, OnError.STOP).execute(model));
+    }
+
+    @Test
+    public void executeLines_stopOnError_stopsAtFirstFailure() {
+        BatchResult result = RunCommand.executeLines(model, List.of("delete p 99", "delete p 1"), OnError.STOP);
+
+        assertEquals(List.of(new BatchResult.LineResult(1, "delete p 99", false,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX)), result.getLineResults());
+        assertFalse(result.isComplete());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void executeLines_continueOnError_runsRemainingCommands() {
+        BatchResult result = RunCommand.executeLines(model, List.of("unknown", "delete p 1"), OnError.CONTINUE);
+
+        assertTrue(result.isComplete());
+        assertEquals(1, result.getFailureCount());
+        assertEquals(String.format(BatchResult.MESSAGE_SUMMARY, 2, 2, 1, 1) + "\n"
+                + String.format(BatchResult.MESSAGE_LINE_FAILED, 1, "unknown", MESSAGE_UNKNOWN_COMMAND),
+                result.getSummary());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void executeLines_stopOnErrorInTransaction_rollsBackTransaction() {
+        BatchResult result = RunCommand.executeLines(model, List.of(BeginCommand.COMMAND_WORD, "delete p 1",
+                "delete p 99", CommitCommand.COMMAND_WORD), OnError.STOP);
+
+        assertTrue(result.isRolledBack());
+        assertTrue(result.getSummary().endsWith(BatchResult.MESSAGE_ROLLED_BACK));
+        assertFalse(model.isInTransaction());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void executeLines_transactionNotEnded_reportsTransactionInProgress() {
+        BatchResult result = RunCommand.executeLines(model, List.of(BeginCommand.COMMAND_WORD, "delete p 99",
+                "delete p 1"), OnError.CONTINUE);
+
+        assertTrue(result.isLeftOpen());
+        assertFalse(result.isRolledBack());
+        assertTrue(result.getSummary().endsWith(BatchResult.MESSAGE_LEFT_OPEN));
+        assertTrue(model.isInTransaction());
+        assertFalse(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void executeLines_clear_failsWithoutPromptingOrTakingNextLine() {
+        BatchResult result = RunCommand.executeLines(model, List.of(ClearCommand.COMMAND_WORD, "delete p 1",
+                ClearCommand.COMMAND_WORD + " p"), OnError.CONTINUE);
+
+        assertEquals(List.of(
+                new BatchResult.LineResult(1, ClearCommand.COMMAND_WORD, false, RunCommand.MESSAGE_CLEAR_IN_SCRIPT),
+                new BatchResult.LineResult(2, "delete p 1", true, String.format(
+                        DeletePersonCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(ALICE))),
+                new BatchResult.LineResult(3, ClearCommand.COMMAND_WORD + " p", false,
+                        RunCommand.MESSAGE_CLEAR_IN_SCRIPT)),
+                result.getLineResults());
+        assertFalse(ClearCommand.isPrompted());
+        assertTrue(model.hasPerson(BENSON));
+    }
+
+    @Test
+    public void executeLines_nestedRun_fails() throws IOException {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(RunCommand.COMMAND_WORD + " " + scriptPath));
+
+        BatchResult result = RunCommand.executeLines(model, Files.readAllLines(scriptPath), OnError.STOP);
+
+        assertEquals(RunCommand.MESSAGE_NESTED_RUN, result.getLineResults().get(0).getMessage());
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runCommand = new RunCommand(Path.of("a.txt"), OnError.STOP);
+
+        // same values -> returns true
+        assertTrue(runCommand.equals(new RunCommand(Path.of("a.txt"), OnError.STOP)));
+
+        // same object -> returns true
+        assertTrue(runCommand.equals(runCommand));
+
+        // null -> returns false
+        assertFalse(runCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("b.txt"), OnError.STOP)));
+
+        // different error handling -> returns false
+        assertFalse(runCommand.equals(new RunCommand(Path.of("a.txt"), OnError.CONTINUE)));
+    }
+}
@@ -10,7 +10,7 @@ import static seedu.address.testutil.TypicalEvents.ANIME;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -228,6 +228,16 @@ public class AddEventCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ObservableList<Event> getDisplayedEventList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getDisplayedPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredEventList(Predicate<Event> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -239,7 +249,27 @@ public class AddEventCommandTest {
         }
 
         @Override
-        public Map<Event, ArrayList<Person>> getPersonEventAssociationMap() {
+        public Set<Event> getLinkedEvents(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
             throw new AssertionError("This method should not be called.");
         }
     }
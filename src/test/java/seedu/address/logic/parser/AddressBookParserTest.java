@@ -8,22 +8,26 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_EVENT;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.OnError;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.eventcommands.AddEventCommand;
 import seedu.address.logic.commands.eventcommands.ClearEventCommand;
@@ -58,44 +62,6 @@ public class AddressBookParserTest {
 
     private final AddressBookParser parser = new AddressBookParser();
 
-    @Test
-    public void regex_modelNeither() {
-        Pattern pattern = parser.getParserRegex();
-
-        Matcher matcher = pattern.matcher("cmd  zz  arg");
-        assert matcher.matches();
-
-        String commandWord = matcher.group("commandWord");
-        String modelTypeShortHand = matcher.group("modelType");
-        ModelType modelType = ModelType.fromShorthand(modelTypeShortHand);
-        String arguments = (modelType == ModelType.NEITHER)
-                ? matcher.group("combined")
-                : matcher.group("arguments");
-
-        assertEquals("cmd", commandWord);
-        assertEquals(ModelType.NEITHER, modelType);
-        assertEquals("  zz  arg", arguments);
-    }
-
-    @Test
-    public void regex_modelNotNeither() {
-        Pattern pattern = parser.getParserRegex();
-
-        Matcher matcher = pattern.matcher("cmd  p  arg");
-        assert matcher.matches();
-
-        String commandWord = matcher.group("commandWord");
-        String modelTypeShortHand = matcher.group("modelType");
-        ModelType modelType = ModelType.fromShorthand(modelTypeShortHand);
-        String arguments = (modelType == ModelType.NEITHER)
-                ? matcher.group("combined")
-                : matcher.group("arguments");
-
-        assertEquals("cmd", commandWord);
-        assertEquals(ModelType.PERSON, modelType);
-        assertEquals("  arg", arguments);
-    }
-
     @Test
     public void isPrompted_check() throws ParseException {
         final AddressBookParser tempParser = new AddressBookParser();
@@ -220,12 +186,31 @@ public class AddressBookParserTest {
         assertEquals(new UnlinkPersonCommand(INDEX_FIRST_EVENT, new Name("Event Name")), command);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " data/script.txt");
+        assertEquals(new RunCommand(Path.of("data/script.txt"), OnError.STOP), command);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_missingArguments_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE),
+            () -> parser.parseCommand(ScheduleCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
@@ -295,7 +280,21 @@ public class AddressBookParserTest {
     public void getHint_clearCommandHint() {
         assertEquals(ClearPersonCommand.MESSAGE_USAGE, parser.getHint("clear p"));
         assertEquals(ClearEventCommand.MESSAGE_USAGE, parser.getHint("clear e"));
-        assertEquals(ClearCommand.MESSAGE_USAGE, parser.getHint("c"));
+        assertEquals(ClearCommand.MESSAGE_USAGE + "\n" + CommitCommand.MESSAGE_HINT, parser.getHint("c"));
+        assertEquals(ClearCommand.MESSAGE_USAGE, parser.getHint("cl"));
+    }
+
+    @Test
+    public void getHint_runCommandHint() {
+        assertEquals(RunCommand.MESSAGE_USAGE + "\n" + RollbackCommand.MESSAGE_HINT, parser.getHint("r"));
+        assertEquals(RunCommand.MESSAGE_USAGE, parser.getHint("ru"));
+    }
+
+    @Test
+    public void getHint_transactionCommandHint() {
+        assertEquals(BeginCommand.MESSAGE_USAGE, parser.getHint("b"));
+        assertEquals(CommitCommand.MESSAGE_USAGE, parser.getHint("co"));
+        assertEquals(RollbackCommand.MESSAGE_USAGE, parser.getHint("ro"));
     }
 
     @Test
@@ -306,5 +305,12 @@ public class AddressBookParserTest {
     @Test
     public void getHint_unrecognizedCommandHint() {
         assertEquals(HelpCommand.MESSAGE_USAGE, parser.getHint("123"));
+        assertEquals(HelpCommand.MESSAGE_USAGE, parser.getHint("addx"));
+    }
+
+    @Test
+    public void getHint_blankInput_returnsHelpHint() {
+        assertEquals(HelpCommand.MESSAGE_USAGE, parser.getHint(""));
+        assertEquals(HelpCommand.MESSAGE_USAGE, parser.getHint("   "));
     }
 }
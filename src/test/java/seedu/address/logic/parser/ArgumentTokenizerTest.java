@@ -136,6 +136,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixNotAfterSpace_takenAsPartOfValue() {
+        // Only a space, not other whitespace, starts a prefix
+        String argsString = "preamble\tp/not a prefix -t\tvalue\t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "preamble\tp/not a prefix");
+        assertArgumentPresent(argMultimap, dashT, "value");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix dashTee = new Prefix("-tee");
+        String argsString = "preamble -tee first -t second -teeth";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTee);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTee, "first", "th");
+        assertArgumentPresent(argMultimap, dashT, "second");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class CommandHeadTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE);
+
+    @Test
+    public void tokenize_modelNeither() throws Exception {
+        CommandHead head = CommandHead.tokenize("cmd  zz  arg");
+        assertEquals("cmd", head.getCommandWord());
+        assertEquals(ModelType.NEITHER, head.getModelType());
+        assertEquals("  zz  arg", head.getArguments());
+    }
+
+    @Test
+    public void tokenize_modelNotNeither() throws Exception {
+        CommandHead head = CommandHead.tokenize("cmd  p  arg");
+        assertEquals("cmd", head.getCommandWord());
+        assertEquals(ModelType.PERSON, head.getModelType());
+        assertEquals("  arg", head.getArguments());
+
+        head = CommandHead.tokenize("  cmd\te");
+        assertEquals("cmd", head.getCommandWord());
+        assertEquals(ModelType.EVENT, head.getModelType());
+        assertEquals("", head.getArguments());
+    }
+
+    @Test
+    public void tokenize_modelShorthandWithinWord_modelNeither() throws Exception {
+        CommandHead head = CommandHead.tokenize("cmd pe arg");
+        assertEquals(ModelType.NEITHER, head.getModelType());
+        assertEquals(" pe arg", head.getArguments());
+    }
+
+    @Test
+    public void tokenize_commandWordOnly_emptyArguments() throws Exception {
+        CommandHead head = CommandHead.tokenize(" cmd ");
+        assertEquals("cmd", head.getCommandWord());
+        assertEquals(ModelType.NEITHER, head.getModelType());
+        assertEquals("", head.getArguments());
+    }
+
+    @Test
+    public void tokenize_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> CommandHead.tokenize(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> CommandHead.tokenize(" \t "));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> CommandHead.tokenize("cmd p arg\narg"));
+    }
+}
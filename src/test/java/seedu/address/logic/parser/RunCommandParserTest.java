@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ON_ERROR;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccessNeither;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.RunCommand.OnError;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class RunCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE);
+
+    private final RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_filePathOnly_stopsOnError() {
+        assertParseSuccessNeither(parser, " data/import script.txt ",
+                new RunCommand(Path.of("data/import script.txt"), OnError.STOP));
+    }
+
+    @Test
+    public void parse_onErrorSpecified_success() {
+        assertParseSuccessNeither(parser, " script.txt " + PREFIX_ON_ERROR + "continue",
+                new RunCommand(Path.of("script.txt"), OnError.CONTINUE));
+        assertParseSuccessNeither(parser, " script.txt " + PREFIX_ON_ERROR + "STOP",
+                new RunCommand(Path.of("script.txt"), OnError.STOP));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () -> parser.parse(ModelType.NEITHER, ""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_FORMAT, () ->
+                parser.parse(ModelType.NEITHER, " " + PREFIX_ON_ERROR + "continue"));
+    }
+
+    @Test
+    public void parse_modelTypeSpecified_throwsParseException() {
+        assertParseFailure(parser, " script.txt", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidOnError_throwsParseException() {
+        assertThrows(ParseException.class, RunCommandParser.MESSAGE_INVALID_ON_ERROR, () ->
+                parser.parse(ModelType.NEITHER, " script.txt " + PREFIX_ON_ERROR + "retry"));
+        assertThrows(ParseException.class, Messages.getErrorMessageForDuplicatePrefixes(PREFIX_ON_ERROR), () ->
+                parser.parse(ModelType.NEITHER, " script.txt " + PREFIX_ON_ERROR + "stop " + PREFIX_ON_ERROR + "stop"));
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSnapshotTest {
+
+    private AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(ART_EXHIBIT);
+        addressBook.addEvent(BOOK_FAIR);
+        addressBook.linkPersonToEvent(ALICE, ART_EXHIBIT);
+        addressBook.linkPersonToEvent(BENSON, ART_EXHIBIT);
+        return addressBook;
+    }
+
+    @Test
+    public void of_linkedAddressBook_sameContents() {
+        AddressBook addressBook = getLinkedAddressBook();
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        assertEquals(addressBook, new AddressBook(snapshot));
+        assertEquals(addressBook.getPersonEventManager(), snapshot.getPersonEventManager());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+    }
+
+    @Test
+    public void of_addressBookChangedAfterwards_snapshotUnchanged() {
+        AddressBook addressBook = getLinkedAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.unlinkPersonFromEvent(BENSON, ART_EXHIBIT);
+        addressBook.removeEvent(BOOK_FAIR);
+
+        assertEquals(expected, new AddressBook(snapshot));
+        assertEquals(Set.of(ART_EXHIBIT), snapshot.getPersonEventManager().getEventsForPerson(BENSON));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getLinkedAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+}
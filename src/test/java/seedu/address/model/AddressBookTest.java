@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -10,18 +12,24 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CULTURE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.types.common.LinkedPersonsEntry;
 import seedu.address.model.types.common.PersonEventManager;
 import seedu.address.model.types.event.Event;
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
@@ -132,6 +140,73 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getEventList().remove(0));
     }
 
+    @Test
+    public void getVersion_mutationsChangeVersion_resortDoesNot() {
+        long version = addressBook.getVersion();
+        addressBook.reSortEvents();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.addEvent(ART_EXHIBIT);
+        addressBook.linkPersonToEvent(ALICE, ART_EXHIBIT);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void builder_typicalData_sameAsAddingOneByOne() {
+        AddressBook.Builder builder = new AddressBook.Builder();
+        List<Event> events = new ArrayList<>(getTypicalEvents());
+        Collections.reverse(events);
+        getTypicalPersons().forEach(builder::addPerson);
+        events.forEach(builder::addEvent);
+
+        AddressBook expected = new AddressBook();
+        getTypicalPersons().forEach(expected::addPerson);
+        getTypicalEvents().forEach(expected::addEvent);
+        assertEquals(expected, builder.build());
+    }
+
+    @Test
+    public void builder_build_publishesSingleChangePerList() {
+        AddressBook.Builder builder = new AddressBook.Builder();
+        getTypicalPersons().forEach(builder::addPerson);
+        getTypicalEvents().forEach(builder::addEvent);
+
+        int[] changeCount = new int[1];
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        addressBook.getEventList().addListener((ListChangeListener<Event>) change -> changeCount[0]++);
+        addressBook.resetData(builder.build());
+        assertEquals(2, changeCount[0]);
+    }
+
+    @Test
+    public void builder_duplicates_throwsDuplicateException() {
+        AddressBook.Builder builder = new AddressBook.Builder().addPerson(ALICE).addEvent(ART_EXHIBIT);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Event editedArtExhibit = new EventBuilder(ART_EXHIBIT).withTags(VALID_TAG_CULTURE).build();
+
+        assertTrue(builder.hasPerson(editedAlice));
+        assertTrue(builder.hasEvent(editedArtExhibit));
+        assertThrows(DuplicatePersonException.class, () -> builder.addPerson(editedAlice));
+        assertThrows(DuplicateEventException.class, () -> builder.addEvent(editedArtExhibit));
+    }
+
+    @Test
+    public void builder_linkedPersonsEntry_resolvedToAddedPersonsAndEvents() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        AddressBook built = new AddressBook.Builder()
+                .addLinkedPersonsEntry(new LinkedPersonsEntry(ART_EXHIBIT, new ArrayList<>(List.of(editedAlice))))
+                .addPerson(ALICE)
+                .addEvent(ART_EXHIBIT)
+                .build();
+
+        assertEquals(Set.of(ART_EXHIBIT), built.getLinkedEvents(ALICE));
+        assertSame(ALICE, built.getPersonEventManager().getLinkedPersonsEntryList().get(0).getPersons().get(0));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName()
@@ -168,6 +243,11 @@ public class AddressBookTest {
             return new PersonEventManager();
         }
 
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
     }
 
 }
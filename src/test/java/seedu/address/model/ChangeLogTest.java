@@ -0,0 +1,75 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBookChange.Kind;
+
+public class ChangeLogTest {
+
+    private static List<Kind> getKinds(List<AddressBookChange> changes) {
+        return changes.stream().map(AddressBookChange::getKind).collect(Collectors.toList());
+    }
+
+    @Test
+    public void getChangesSince_earlierLog_changesInOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ChangeLog earlier = addressBook.getChangeLog();
+
+        addressBook.addPerson(HOON);
+        addressBook.addEvent(ART_EXHIBIT);
+        addressBook.linkPersonToEvent(HOON, ART_EXHIBIT);
+        addressBook.removePerson(ALICE);
+
+        List<AddressBookChange> changes = addressBook.getChangeLog().getChangesSince(earlier).get();
+        assertEquals(List.of(Kind.PUT_PERSON, Kind.PUT_EVENT, Kind.LINK, Kind.REMOVE_PERSON), getKinds(changes));
+        assertEquals(HOON, changes.get(0).getPerson());
+        assertEquals(ALICE.getId(), changes.get(3).getPersonId());
+        assertEquals(List.of(), addressBook.getChangeLog().getChangesSince(addressBook.getChangeLog()).get());
+    }
+
+    @Test
+    public void getChangesSince_copiedAddressBook_reachesBackToSource() {
+        AddressBook source = getTypicalAddressBook();
+        ChangeLog earlier = source.getChangeLog();
+        AddressBook copy = new AddressBook(source);
+
+        copy.addPerson(HOON);
+
+        assertEquals(List.of(Kind.PUT_PERSON), getKinds(copy.getChangeLog().getChangesSince(earlier).get()));
+    }
+
+    @Test
+    public void getChangesSince_listReplaced_notReached() {
+        AddressBook addressBook = getTypicalAddressBook();
+        ChangeLog earlier = addressBook.getChangeLog();
+
+        addressBook.setPersons(List.of(HOON));
+
+        assertFalse(addressBook.getChangeLog().getChangesSince(earlier).isPresent());
+        assertFalse(earlier.getChangesSince(ChangeLog.start()).isPresent());
+    }
+
+    @Test
+    public void record_moreThanMaxLength_startsOver() {
+        ChangeLog earlier = ChangeLog.start();
+        ChangeLog changeLog = earlier;
+        for (int i = 0; i < ChangeLog.MAX_LENGTH; i++) {
+            changeLog = changeLog.record(AddressBookChange.clearPersons());
+        }
+        assertEquals(ChangeLog.MAX_LENGTH, changeLog.getChangesSince(earlier).get().size());
+
+        changeLog = changeLog.record(AddressBookChange.clearPersons());
+
+        assertFalse(changeLog.getChangesSince(earlier).isPresent());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -11,8 +12,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ANIME;
 import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
 import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.nowPlusDays;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
@@ -22,7 +26,10 @@ import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.types.common.EventInSchedulePredicate;
 import seedu.address.model.types.common.EventNameContainsKeywordsPredicate;
 import seedu.address.model.types.common.NameContainsKeywordsPredicate;
 import seedu.address.model.types.event.Event;
@@ -157,6 +164,183 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
     }
 
+    @Test
+    public void updateFilteredEventList_indexedPredicate_filtersAndUpdatesLive() {
+        Event pastEvent = new EventBuilder().withName("Past Event").withStartTime(nowPlusDays(-1)).build();
+        modelManager.addEvent(ANIME);
+        modelManager.addEvent(CONCERT);
+        modelManager.addEvent(pastEvent);
+
+        modelManager.updateFilteredEventList(new EventInSchedulePredicate(3));
+        assertEquals(Arrays.asList(ANIME), modelManager.getFilteredEventList());
+
+        Event editedConcert = new EventBuilder(CONCERT).withStartTime(nowPlusDays(1)).build();
+        modelManager.setEvent(CONCERT, editedConcert);
+        assertEquals(Arrays.asList(editedConcert, ANIME), modelManager.getFilteredEventList());
+
+        modelManager.updateFilteredEventList(new EventInSchedulePredicate(-2));
+        assertEquals(Arrays.asList(pastEvent), modelManager.getFilteredEventList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_matchesWholeWordsAndUpdatesLive() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier", "Paul")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void commitTransaction_changesInTransaction_displayedInSingleChange() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(ANIME);
+        ObservableList<Person> displayedPersons = modelManager.getDisplayedPersonList();
+        ObservableList<Event> displayedEvents = modelManager.getDisplayedEventList();
+        int[] personChangeCount = {0};
+        int[] eventChangeCount = {0};
+        displayedPersons.addListener((ListChangeListener<Person>) change -> personChangeCount[0]++);
+        displayedEvents.addListener((ListChangeListener<Event>) change -> eventChangeCount[0]++);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.addEvent(CONCERT);
+        modelManager.linkPersonToEvent(BENSON, CONCERT);
+        modelManager.deleteEvent(ANIME);
+        assertTrue(modelManager.isInTransaction());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE), displayedPersons);
+        assertEquals(Arrays.asList(ANIME), displayedEvents);
+        assertEquals(0, personChangeCount[0]);
+        assertEquals(0, eventChangeCount[0]);
+
+        modelManager.commitTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(Arrays.asList(BENSON), displayedPersons);
+        assertEquals(Arrays.asList(CONCERT), displayedEvents);
+        assertEquals(1, personChangeCount[0]);
+        assertEquals(1, eventChangeCount[0]);
+
+        modelManager.addPerson(ALICE);
+        assertEquals(Arrays.asList(BENSON, ALICE), displayedPersons);
+        assertEquals(2, personChangeCount[0]);
+    }
+
+    @Test
+    public void commitTransaction_filterChangedInTransaction_appliesFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Meier")));
+        int[] changeCount = {0};
+        modelManager.getDisplayedPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getDisplayedPersonList());
+        modelManager.commitTransaction();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getDisplayedPersonList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void rollbackTransaction_changesInTransaction_discarded() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(ANIME);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+        int[] changeCount = {0};
+        modelManager.getDisplayedPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+        modelManager.getDisplayedEventList().addListener((ListChangeListener<Event>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        modelManager.linkPersonToEvent(ALICE, ANIME);
+        modelManager.addPerson(BENSON);
+        modelManager.addEvent(CONCERT);
+        modelManager.rollbackTransaction();
+
+        assertFalse(modelManager.isInTransaction());
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertFalse(modelManager.isPersonLinkedToEvent(ALICE, ANIME));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getDisplayedPersonList());
+        assertEquals(Arrays.asList(ANIME), modelManager.getDisplayedEventList());
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void rollbackTransaction_deletionsAndEdits_restoredWithPositionsAndLinks() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+                .withEvent(ANIME).withEvent(CONCERT).build());
+        modelManager.linkPersonToEvent(ALICE, ANIME);
+        modelManager.linkPersonToEvent(BENSON, CONCERT);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.beginTransaction();
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.unlinkPersonFromEvent(editedBenson, CONCERT);
+        modelManager.deleteEvent(ANIME);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+        modelManager.rollbackTransaction();
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(expectedAddressBook.getPersonEventManager(),
+                modelManager.getAddressBook().getPersonEventManager());
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.isPersonLinkedToEvent(ALICE, ANIME));
+        assertTrue(modelManager.isPersonLinkedToEvent(BENSON, CONCERT));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+        assertEquals(Arrays.asList(ALICE), modelManager.getDisplayedPersonList());
+    }
+
+    @Test
+    public void rollbackTransaction_clearedPersons_restored() {
+        modelManager.addPerson(ALICE);
+        modelManager.addEvent(ANIME);
+        modelManager.linkPersonToEvent(ALICE, ANIME);
+
+        modelManager.beginTransaction();
+        modelManager.clearAllPersons();
+        modelManager.addPerson(BENSON);
+        modelManager.rollbackTransaction();
+
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+        assertTrue(modelManager.isPersonLinkedToEvent(ALICE, ANIME));
+    }
+
+    @Test
+    public void setAddressBook_valueEqualEvents_findsReplacementEvents() {
+        modelManager.addEvent(ANIME);
+        Event animeCopy = new EventBuilder(ANIME).build();
+        AddressBook replacement = new AddressBook();
+        replacement.setEvents(Arrays.asList(animeCopy));
+
+        modelManager.setAddressBook(replacement);
+        modelManager.updateFilteredEventList(new EventNameContainsKeywordsPredicate(Arrays.asList("Anime")));
+
+        assertEquals(1, modelManager.getFilteredEventList().size());
+        assertSame(modelManager.getEventByName(ANIME.getName()), modelManager.getFilteredEventList().get(0));
+    }
+
+    @Test
+    public void transaction_invalidState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollbackTransaction());
+
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
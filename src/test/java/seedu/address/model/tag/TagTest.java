@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,19 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag name
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName("best friends")); // contains spaces
+        assertFalse(Tag.isValidTagName("caf\u00e9")); // contains non-ASCII letters
+
+        // valid tag name
+        assertTrue(Tag.isValidTagName("friends2"));
+    }
+
+    @Test
+    public void ofValidated_validTagName_sameAsConstructor() {
+        assertEquals(new Tag("friends"), Tag.ofValidated("friends"));
     }
 
 }
@@ -1,9 +1,12 @@
 package seedu.address.model.types.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTimeTest {
@@ -47,6 +50,8 @@ public class DateTimeTest {
         assertFalse(DateTime.isValidDateTime("2024-11-31 14:30")); // invalid date
         assertFalse(DateTime.isValidDateTime("2023-2-29 14:30")); // invalid date
         assertFalse(DateTime.isValidDateTime("2024-2-30 14:30")); // invalid date
+        assertFalse(DateTime.isValidDateTime("2023-02-29 14:30")); // not a leap year
+        assertFalse(DateTime.isValidDateTime("0000-10-15 14:30")); // year zero
         assertFalse(DateTime.isValidDateTime("2024-10-15 24:00")); // invalid hour
         assertFalse(DateTime.isValidDateTime("2024-10-15 24:30")); // invalid hour
         assertFalse(DateTime.isValidDateTime("2024-10-15 2:30")); // invalid hour
@@ -74,6 +79,13 @@ public class DateTimeTest {
         assertTrue(DateTime.isValidDateTime("2024-10-15 23:59")); // one minute before midnight
     }
 
+    @Test
+    public void ofValidated_validDateTime_sameAsConstructor() {
+        DateTime dateTime = DateTime.ofValidated("2024-02-29 14:30");
+        assertEquals(new DateTime("2024-02-29 14:30"), dateTime);
+        assertEquals(LocalDateTime.of(2024, 2, 29, 14, 30), dateTime.toLocalDateTime());
+    }
+
     @Test
     public void equals() {
         DateTime dateTime = new DateTime("2024-10-15 14:30");
@@ -1,5 +1,6 @@
 package seedu.address.model.types.common;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -29,6 +30,8 @@ public class NameTest {
         assertFalse(Name.isValidName(" ")); // spaces only
         assertFalse(Name.isValidName("^")); // only non-alphanumeric characters
         assertFalse(Name.isValidName("peter*")); // contains non-alphanumeric characters
+        assertFalse(Name.isValidName("peter\tjack")); // contains whitespace other than spaces
+        assertFalse(Name.isValidName("Zo\u00eb")); // contains non-ASCII letters
 
         // valid name
         assertTrue(Name.isValidName("peter jack")); // alphabets only
@@ -38,6 +41,12 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void ofValidated_validName_sameAsConstructor() {
+        assertEquals(new Name("peter jack"), Name.ofValidated("peter jack"));
+        assertThrows(NullPointerException.class, () -> Name.ofValidated(null));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
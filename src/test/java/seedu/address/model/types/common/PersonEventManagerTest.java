@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalEvents.nowPlusDays;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +88,47 @@ public class PersonEventManagerTest {
         assertTrue(personEventManager.isPersonLinkedToEvent(editedPerson, event));
     }
 
+    @Test
+    public void getEventsForPerson_linkedAndUnlinked_tracksLinks() {
+        assertTrue(personEventManager.getEventsForPerson(person).isEmpty());
+
+        personEventManager.addPersonToEvent(person, event);
+        assertEquals(Set.of(event), personEventManager.getEventsForPerson(person));
+
+        personEventManager.removePersonFromEvent(person, event);
+        assertEquals(Collections.emptySet(), personEventManager.getEventsForPerson(person));
+    }
+
+    @Test
+    public void setEvent_linkedPerson_reverseIndexUpdated() {
+        Event editedEvent = new EventBuilder(event).withAddress("Sentosa Island").build();
+        personEventManager.addPersonToEvent(person, event);
+        personEventManager.setEvent(event, editedEvent);
+
+        assertEquals(Set.of(editedEvent), personEventManager.getEventsForPerson(person));
+        assertTrue(personEventManager.isPersonLinkedToEvent(person, editedEvent));
+        assertFalse(personEventManager.isPersonLinkedToEvent(person, event));
+    }
+
+    @Test
+    public void removeEvent_linkedPerson_reverseIndexUpdated() {
+        personEventManager.addPersonToEvent(person, event);
+        personEventManager.removeEvent(event);
+        assertTrue(personEventManager.getEventsForPerson(person).isEmpty());
+    }
+
+    @Test
+    public void setPersonForAllEvents_sameId_linkFollowsEditedPerson() {
+        Person editedPerson = new Person(person.getId(), person.getName(), person.getPhone(),
+                person.getEmail(), person.getAddress(), Collections.emptySet());
+        personEventManager.addPersonToEvent(person, event);
+        personEventManager.setPersonForAllEvents(person, editedPerson);
+
+        assertTrue(personEventManager.isPersonLinkedToEvent(editedPerson, event));
+        assertEquals(1, personEventManager.getLinkedPersonsEntryList().get(0).getPersons().size());
+        assertEquals(editedPerson, personEventManager.getLinkedPersonsEntryList().get(0).getPersons().get(0));
+    }
+
     @Test
     public void addEvent_eventAddedSuccessfully() {
         Event newEvent = new EventBuilder()
@@ -0,0 +1,57 @@
+package seedu.address.model.types.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TokenIndexTest {
+
+    private final TokenIndex<List<String>> index = new TokenIndex<>(texts -> texts);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TokenIndex<String>(null));
+    }
+
+    @Test
+    public void getMatches_wholeWordsIgnoringCase_returnsUnionOfMatches() {
+        List<String> friend = Arrays.asList("friends", "owesMoney");
+        List<String> colleague = Arrays.asList("Work Friends");
+        List<String> family = Collections.singletonList("family");
+        index.addAll(Arrays.asList(friend, colleague, family));
+
+        assertEquals(Set.of(friend, colleague), index.getMatches(List.of("FRIENDS")));
+        assertEquals(Set.of(friend, family), index.getMatches(List.of("owesmoney", " family ")));
+        assertTrue(index.getMatches(List.of("friend")).isEmpty());
+        assertTrue(index.getMatches(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void remove_elementRemoved_noLongerMatched() {
+        List<String> friend = Arrays.asList("friends");
+        List<String> equalFriend = Arrays.asList("friends");
+        index.add(friend);
+        index.add(equalFriend);
+
+        index.remove(friend);
+        assertEquals(1, index.getMatches(List.of("friends")).size());
+        assertTrue(index.getMatches(List.of("friends")).iterator().next() == equalFriend);
+
+        index.remove(equalFriend);
+        assertTrue(index.getMatches(List.of("friends")).isEmpty());
+    }
+
+    @Test
+    public void clear_removesAllElements() {
+        index.add(Arrays.asList("friends"));
+        index.clear();
+        assertTrue(index.getMatches(List.of("friends")).isEmpty());
+    }
+}
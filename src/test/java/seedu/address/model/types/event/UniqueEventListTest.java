@@ -2,20 +2,31 @@ package seedu.address.model.types.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_START_TIME_ART_EXHIBIT;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CULTURE;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ANIME;
 import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalEvents.BARBEQUE;
 import static seedu.address.testutil.TypicalEvents.BOOK_FAIR;
+import static seedu.address.testutil.TypicalEvents.CONCERT;
+import static seedu.address.testutil.TypicalEvents.nowPlusDays;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.types.event.exceptions.DuplicateEventException;
 import seedu.address.model.types.event.exceptions.EventNotFoundException;
 import seedu.address.testutil.EventBuilder;
@@ -48,6 +59,23 @@ public class UniqueEventListTest {
         assertTrue(uniqueEventList.contains(editedArtExhibit));
     }
 
+    @Test
+    public void getEventByName_eventInList_returnsEvent() {
+        uniqueEventList.add(ART_EXHIBIT);
+        assertEquals(ART_EXHIBIT, uniqueEventList.getEventByName(ART_EXHIBIT.getName()));
+    }
+
+    @Test
+    public void getEventByName_eventEditedOrRemoved_returnsCurrentEvent() {
+        uniqueEventList.add(ART_EXHIBIT);
+        uniqueEventList.setEvent(ART_EXHIBIT, BOOK_FAIR);
+        assertNull(uniqueEventList.getEventByName(ART_EXHIBIT.getName()));
+        assertEquals(BOOK_FAIR, uniqueEventList.getEventByName(BOOK_FAIR.getName()));
+
+        uniqueEventList.remove(BOOK_FAIR);
+        assertNull(uniqueEventList.getEventByName(BOOK_FAIR.getName()));
+    }
+
     @Test
     public void add_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.add(null));
@@ -157,12 +185,108 @@ public class UniqueEventListTest {
         assertEquals(expectedUniqueEventList, uniqueEventList);
     }
 
+    @Test
+    public void setEvents_valueEqualEvents_replacesInstances() {
+        uniqueEventList.add(ART_EXHIBIT);
+        Event artExhibitCopy = new EventBuilder(ART_EXHIBIT).build();
+        uniqueEventList.setEvents(Collections.singletonList(artExhibitCopy));
+        assertSame(artExhibitCopy, uniqueEventList.asUnmodifiableObservableList().get(0));
+    }
+
     @Test
     public void setEvents_listWithDuplicateEvents_throwsDuplicateEventException() {
         List<Event> listWithDuplicateEvents = Arrays.asList(ART_EXHIBIT, ART_EXHIBIT);
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
     }
 
+    @Test
+    public void add_eventsOutOfOrder_keepsUpcomingEventsFirstByStartTime() {
+        Event pastEvent = new EventBuilder().withName("Past Event").withStartTime(nowPlusDays(-1)).build();
+        uniqueEventList.add(CONCERT);
+        uniqueEventList.add(pastEvent);
+        uniqueEventList.add(ANIME);
+        uniqueEventList.add(BARBEQUE);
+        assertEquals(Arrays.asList(ANIME, BARBEQUE, CONCERT, pastEvent),
+                uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_editedStartTime_movesEventToNewPosition() {
+        uniqueEventList.setEvents(Arrays.asList(CONCERT, ANIME, BARBEQUE));
+        Event editedAnime = new EventBuilder(ANIME).withStartTime(nowPlusDays(7)).build();
+        uniqueEventList.setEvent(ANIME, editedAnime);
+        assertEquals(Arrays.asList(BARBEQUE, CONCERT, editedAnime), uniqueEventList.asUnmodifiableObservableList());
+
+        uniqueEventList.remove(CONCERT);
+        assertEquals(Arrays.asList(BARBEQUE, editedAnime), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvent_editedStartTime_movesEventInSingleChange() {
+        uniqueEventList.setEvents(Arrays.asList(CONCERT, ANIME, BARBEQUE));
+        List<ListChangeListener.Change<? extends Event>> changes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener(changes::add);
+
+        Event laterAnime = new EventBuilder(ANIME).withStartTime(nowPlusDays(7)).build();
+        uniqueEventList.setEvent(ANIME, laterAnime);
+        assertEquals(Arrays.asList(BARBEQUE, CONCERT, laterAnime), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+
+        Event earlierAnime = new EventBuilder(laterAnime).withStartTime(nowPlusDays(1)).build();
+        uniqueEventList.setEvent(laterAnime, earlierAnime);
+        assertEquals(Arrays.asList(earlierAnime, BARBEQUE, CONCERT), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void advanceOrderingTime_eventsStarted_movesOnlyStartedEventsToPastSegment() {
+        Event pastEvent = new EventBuilder().withName("Past Event").withStartTime(nowPlusDays(-1)).build();
+        uniqueEventList.setEvents(Arrays.asList(pastEvent, BARBEQUE, ANIME, CONCERT));
+        List<ListChangeListener.Change<? extends Event>> changes = new ArrayList<>();
+        uniqueEventList.asUnmodifiableObservableList().addListener(changes::add);
+
+        uniqueEventList.advanceOrderingTime(LocalDateTime.now().plusDays(5));
+        assertEquals(Arrays.asList(CONCERT, pastEvent, ANIME, BARBEQUE),
+                uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+
+        changes.clear();
+        uniqueEventList.advanceOrderingTime(LocalDateTime.now().plusDays(5));
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void getEventsStartingBetween_upcomingAndPastEvents_returnsEventsInRange() {
+        Event pastEvent = new EventBuilder().withName("Past Event").withStartTime(nowPlusDays(-1)).build();
+        uniqueEventList.setEvents(Arrays.asList(pastEvent, BARBEQUE, ANIME, CONCERT));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(Arrays.asList(ANIME, BARBEQUE, pastEvent),
+                uniqueEventList.getEventsStartingBetween(now.minusDays(2), now.plusDays(5)));
+        assertEquals(Arrays.asList(CONCERT),
+                uniqueEventList.getEventsStartingBetween(now.plusDays(5), now.plusDays(7)));
+        assertEquals(Collections.emptyList(),
+                uniqueEventList.getEventsStartingBetween(now.plusDays(7), now.plusDays(9)));
+
+        // boundaries are inclusive
+        LocalDateTime animeStartTime = ANIME.getStartTime().toLocalDateTime();
+        assertEquals(Arrays.asList(ANIME), uniqueEventList.getEventsStartingBetween(animeStartTime, animeStartTime));
+    }
+
+    @Test
+    public void getEventsNamedWith_listChanged_nameIndexKeptUpToDate() {
+        uniqueEventList.setEvents(Arrays.asList(ANIME, BARBEQUE));
+        assertEquals(Set.of(ANIME, BARBEQUE), uniqueEventList.getEventsNamedWith(List.of("EXPO", "party")));
+        assertEquals(Collections.emptySet(), uniqueEventList.getEventsNamedWith(List.of("Exp")));
+
+        Event editedAnime = new EventBuilder(ANIME).withName("Comic Party").build();
+        uniqueEventList.setEvent(ANIME, editedAnime);
+        uniqueEventList.remove(BARBEQUE);
+        uniqueEventList.add(CONCERT);
+        assertEquals(Set.of(editedAnime), uniqueEventList.getEventsNamedWith(List.of("party", "expo")));
+        assertEquals(Set.of(CONCERT), uniqueEventList.getEventsNamedWith(List.of("night")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
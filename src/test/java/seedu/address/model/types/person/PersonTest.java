@@ -57,6 +57,9 @@ public class PersonTest {
         Person aliceCopy = new PersonBuilder(ALICE).build();
         assertTrue(ALICE.equals(aliceCopy));
 
+        // ids are not part of equality
+        assertFalse(ALICE.getId() == aliceCopy.getId());
+
         // same object -> returns true
         assertTrue(ALICE.equals(ALICE));
 
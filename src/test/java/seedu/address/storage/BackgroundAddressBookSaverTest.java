@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_nullAddressBook_throwsNullPointerException() {
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(
+                new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.save(original);
+        saver.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_afterFlush_writesAddressBook() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook latest = getTypicalAddressBook();
+
+        saver.save(new AddressBook());
+        saver.flush();
+        saver.save(latest);
+        saver.close();
+
+        assertEquals(latest, new AddressBook(storage.readAddressBook().get()));
+        assertThrows(RejectedExecutionException.class, () -> saver.save(new AddressBook()));
+    }
+
+    @Test
+    public void save_burstDuringWrite_writesOnlyLatestAfterCurrentWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                written.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBook();
+        AddressBook latest = new AddressBook();
+        latest.addPerson(ALICE);
+
+        saver.save(first);
+        firstWriteStarted.await();
+        saver.save(second);
+        saver.save(latest);
+        firstWriteReleased.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(latest, written.get(1));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_reportsError() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("ab.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        saver.setErrorHandler(errors::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(List.of(exception), errors);
+    }
+}
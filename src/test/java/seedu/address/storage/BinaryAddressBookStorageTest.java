@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getLinkedAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(ART_EXHIBIT);
+        addressBook.linkPersonToEvent(ALICE, ART_EXHIBIT);
+        addressBook.linkPersonToEvent(BENSON, ART_EXHIBIT);
+        return addressBook;
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("ab.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getLinkedAddressBook();
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(original, readBack);
+        assertEquals(ALICE.getId(), readBack.getPersonList().get(0).getId());
+        assertEquals(Set.of(ART_EXHIBIT), readBack.getLinkedEvents(ALICE));
+        assertEquals(Set.of(ART_EXHIBIT), readBack.getLinkedEvents(BENSON));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        AddressBook original = getLinkedAddressBook();
+
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptedPayload_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void importAndExportJson_roundTrip_success() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        Path binaryFilePath = testFolder.resolve("ab.bin");
+        Path exportedFilePath = testFolder.resolve("exported.json");
+        AddressBook original = getLinkedAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(binaryFilePath);
+
+        assertTrue(storage.importFromJson(jsonFilePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        assertTrue(storage.exportToJson(exportedFilePath));
+        AddressBook exported = new AddressBook(new JsonAddressBookStorage(exportedFilePath).readAddressBook().get());
+        assertEquals(original, exported);
+        assertEquals(Set.of(ART_EXHIBIT), exported.getLinkedEvents(ALICE));
+    }
+
+    @Test
+    public void importFromJson_missingJsonFile_returnsFalse() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        assertFalse(storage.importFromJson(testFolder.resolve("missing.json")));
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void takeOverAndHandOver_switchFormatsBackAndForth_latestChangesKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        AddressBook addressBook = getLinkedAddressBook();
+        jsonStorage.saveAddressBook(addressBook);
+
+        // JSON -> binary, then a change saved in the binary format
+        binaryStorage.takeOverFromJson(jsonFilePath);
+        assertFalse(Files.exists(jsonFilePath));
+        addressBook.removePerson(ALICE);
+        binaryStorage.saveAddressBook(addressBook);
+
+        // binary -> JSON, then a change saved in the JSON format
+        binaryStorage.handOverToJson(jsonFilePath);
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook().get()));
+        addressBook.removePerson(BENSON);
+        jsonStorage.saveAddressBook(addressBook);
+
+        // JSON -> binary again
+        binaryStorage.takeOverFromJson(jsonFilePath);
+        assertFalse(Files.exists(jsonFilePath));
+        assertEquals(addressBook, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void takeOverFromJson_staleJsonFile_binaryFileKept() throws Exception {
+        Path jsonFilePath = testFolder.resolve("ab.json");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("ab.bin"));
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = getLinkedAddressBook();
+        binaryStorage.saveAddressBook(addressBook);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+
+        binaryStorage.takeOverFromJson(jsonFilePath);
+
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(BinaryAddressBookStorage.getSupersededFilePath(jsonFilePath)));
+        assertEquals(addressBook, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.types.common.Phone;
+import seedu.address.model.types.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addPerson(HOON);
+        original.addEvent(ART_EXHIBIT);
+        original.linkPersonToEvent(HOON, ART_EXHIBIT);
+        Person editedAlice = new Person(ALICE.getId(), ALICE.getName(), new Phone("91234567"), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getTags());
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(journalFilePath).size());
+
+        AddressBook readBack = new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(Set.of(ART_EXHIBIT), readBack.getLinkedEvents(HOON));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBook_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook copy = new AddressBook(storage.readAddressBook().get());
+        copy.addPerson(HOON);
+        storage.saveAddressBook(AddressBookSnapshot.of(copy));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(copy, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_listReplaced_compactsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        original.setPersons(List.of(ALICE));
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_clearPersons_singleRecord() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.clearPersons(new AddressBook());
+        storage.saveAddressBook(original);
+
+        List<String> records = Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath));
+        assertEquals(1, records.size());
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipsRecord() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), "{\"op\":\"putPe",
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compactsJournalIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+
+        Person person = new PersonBuilder().withName("Compaction Test").build();
+        original.addPerson(person);
+        for (int i = 0; i < 250; i++) {
+            Person editedPerson = new PersonBuilder(person).withPhone(String.valueOf(90000000 + i)).build();
+            original.setPerson(person, editedPerson);
+            person = editedPerson;
+            storage.saveAddressBook(original);
+        }
+
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        assertTrue(!Files.exists(journalFilePath) || Files.readAllLines(journalFilePath).size() < 250);
+        assertEquals(original, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
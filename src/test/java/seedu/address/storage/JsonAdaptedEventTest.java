@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ANIME;
 import static seedu.address.testutil.TypicalEvents.BARBEQUE;
 
 import java.util.ArrayList;
@@ -35,6 +36,12 @@ public class JsonAdaptedEventTest {
         assertEquals(BARBEQUE, event.toModelType());
     }
 
+    @Test
+    public void toModelType_validEventDetails_keepsId() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(ANIME);
+        assertEquals(ANIME.getId(), event.toModelType().getId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.types.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path TYPICAL_EVENTS_FILE = TEST_DATA_FOLDER.resolve("typicalEventsAddressBook.json");
+    private static final Path INVALID_EVENT_FILE = TEST_DATA_FOLDER.resolve("invalidEventAddressBook.json");
+    private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = read(TYPICAL_PERSONS_FILE);
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(addressBookFromFile, typicalPersonsAddressBook);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePerson_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON, () ->
+                read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_typicalEventsFile_success() throws Exception {
+        AddressBook addressBookFromFile = read(TYPICAL_EVENTS_FILE);
+        AddressBook typicalEventsAddressBook = TypicalEvents.getFixedTimeAddressBook();
+        assertEquals(addressBookFromFile, typicalEventsAddressBook);
+    }
+
+    @Test
+    public void read_invalidEventFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_EVENT_FILE));
+    }
+
+    @Test
+    public void read_duplicateEvent_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_EVENT, () ->
+                read(DUPLICATE_EVENT_FILE));
+    }
+
+    @Test
+    public void read_writtenByWriter_linksKept() throws Exception {
+        AddressBook original = TypicalEvents.getFixedTimeAddressBook();
+        original.addPerson(TypicalPersons.ALICE);
+        original.linkPersonToEvent(TypicalPersons.ALICE, original.getEventList().get(0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new JsonAddressBookWriter(false).write(original, out);
+        AddressBook addressBookFromJson = read(out.toString(StandardCharsets.UTF_8));
+
+        assertEquals(original, addressBookFromJson);
+        assertEquals(Set.of(original.getEventList().get(0)),
+                addressBookFromJson.getLinkedEvents(TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void read_personWithoutIdBeforeStoredId_storedIdKept() throws Exception {
+        long nextId = new PersonBuilder().build().getId() + 1;
+        String json = "{ \"schemaVersion\" : " + JsonAddressBookReader.SCHEMA_VERSION + ", \"persons\" : [ "
+                + JsonUtil.toJsonString(toAdaptedPerson(null, TypicalPersons.ALICE)) + ", "
+                + JsonUtil.toJsonString(toAdaptedPerson(nextId, TypicalPersons.BENSON)) + " ] }";
+
+        AddressBook addressBook = read(json);
+
+        assertEquals(nextId, addressBook.getPersonList().get(1).getId());
+        assertTrue(addressBook.getPersonList().get(0).getId() > nextId);
+    }
+
+    @Test
+    public void read_personWithoutIdBeforeLaterBatch_storedIdsOfLaterBatchKept() throws Exception {
+        long firstId = new PersonBuilder().build().getId() + 1;
+        StringBuilder json = new StringBuilder("{ \"persons\" : [ ")
+                .append(JsonUtil.toJsonString(toAdaptedPerson(null, TypicalPersons.ALICE)));
+        for (int i = 0; i < JsonAddressBookReader.BATCH_SIZE; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).build();
+            json.append(", ").append(JsonUtil.toJsonString(toAdaptedPerson(firstId + i, person)));
+        }
+        json.append(" ] }");
+
+        AddressBook addressBook = read(json.toString());
+
+        long lastStoredId = firstId + JsonAddressBookReader.BATCH_SIZE - 1;
+        assertEquals(lastStoredId, addressBook.getPersonList().get(JsonAddressBookReader.BATCH_SIZE).getId());
+        assertTrue(addressBook.getPersonList().get(0).getId() > lastStoredId);
+    }
+
+    @Test
+    public void read_duplicatePersonBeforeInvalidPerson_throwsDuplicatePerson() throws Exception {
+        String json = "{ \"persons\" : [ "
+                + JsonUtil.toJsonString(toAdaptedPerson(null, TypicalPersons.ALICE)) + ", "
+                + JsonUtil.toJsonString(toAdaptedPerson(null, TypicalPersons.ALICE)) + ", "
+                + "{ \"name\" : \"R@chel\", \"phone\" : \"94351253\", \"email\" : \"rachel@example.com\", "
+                + "\"address\" : \"4th street\" } ] }";
+
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON, () -> read(json));
+    }
+
+    private static JsonAdaptedPerson toAdaptedPerson(Long id, Person person) {
+        return new JsonAdaptedPerson(id, person.getName().fullName, person.getPhone().value,
+                person.getEmail().value, person.getAddress().value,
+                person.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
+    }
+
+    private static AddressBook read(Path filePath) throws Exception {
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return new JsonAddressBookReader(null).read(in, Files.size(filePath));
+        }
+    }
+
+    private static AddressBook read(String json) throws Exception {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return new JsonAddressBookReader(null).read(new ByteArrayInputStream(bytes), bytes.length);
+    }
+}
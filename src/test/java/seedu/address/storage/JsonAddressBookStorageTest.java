@@ -2,21 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.ART_EXHIBIT;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 
 public class JsonAddressBookStorageTest {
@@ -60,6 +68,103 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonAddressBookReaderTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, IllegalValueException.class.getName() + ": "
+                + JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_linksBeforePersonsAndEvents_success() throws Exception {
+        Path filePath = testFolder.resolve("LinksFirst.json");
+        Files.writeString(filePath, "{ \"linkedPersonEntries\" : [ { \"event\" : { \"name\" : \"Art Exhibit\", "
+                + "\"address\" : \"101, Art Street\", \"startTime\" : \"2025-11-15 10:00\" }, "
+                + "\"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", "
+                + "\"email\" : \"alice@example.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\" } ] } ], "
+                + "\"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", "
+                + "\"email\" : \"alice@example.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\" } ], "
+                + "\"events\" : [ { \"name\" : \"Art Exhibit\", \"address\" : \"101, Art Street\", "
+                + "\"startTime\" : \"2025-11-15 10:00\" } ], \"_comment\" : [ \"ignored\" ] }");
+
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals(1, readBack.getEventList().size());
+        assertEquals(Set.of(readBack.getEventList().get(0)),
+                readBack.getLinkedEvents(readBack.getPersonList().get(0)));
+    }
+
+    @Test
+    public void readAddressBook_embeddedLinkedPersonsEntries_migratedToCurrentSchema() throws Exception {
+        Path filePath = testFolder.resolve("Legacy.json");
+        Files.writeString(filePath, "{ \"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", "
+                + "\"email\" : \"alice@example.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\" } ], "
+                + "\"events\" : [ { \"name\" : \"Art Exhibit\", \"address\" : \"101, Art Street\", "
+                + "\"startTime\" : \"2025-11-15 10:00\" } ], \"linkedPersonsEntries\" : [ { \"event\" : { "
+                + "\"name\" : \"Art Exhibit\", \"address\" : \"101, Art Street\", "
+                + "\"startTime\" : \"2025-11-15 10:00\" }, "
+                + "\"persons\" : [ { \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", "
+                + "\"email\" : \"alice@example.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\" } ] } ] }");
+        String legacy = Files.readString(filePath);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+
+        AddressBook firstRead = new AddressBook(storage.readAddressBook().get());
+        String migrated = Files.readString(filePath);
+        assertEquals(legacy, Files.readString(JsonAddressBookStorage.getBackupFilePath(filePath, 1)));
+        AddressBook secondRead = new AddressBook(storage.readAddressBook().get());
+
+        assertTrue(migrated.contains("\"schemaVersion\":" + JsonAddressBookReader.SCHEMA_VERSION));
+        assertTrue(migrated.contains("\"personIds\":[" + firstRead.getPersonList().get(0).getId() + "]"));
+        assertEquals(migrated, Files.readString(filePath));
+        assertEquals(firstRead, secondRead);
+        assertEquals(firstRead.getPersonList().get(0).getId(), secondRead.getPersonList().get(0).getId());
+        assertEquals(Set.of(secondRead.getEventList().get(0)),
+                secondRead.getLinkedEvents(secondRead.getPersonList().get(0)));
+    }
+
+    @Test
+    public void readAddressBook_newerSchemaVersion_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("Newer.json");
+        Files.writeString(filePath, "{ \"schemaVersion\" : " + (JsonAddressBookReader.SCHEMA_VERSION + 1)
+                + ", \"persons\" : [ ] }");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_linkToUnknownPersonId_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("UnknownId.json");
+        Files.writeString(filePath, "{ \"schemaVersion\" : 2, \"events\" : [ { \"id\" : 1, \"name\" : \"Art Exhibit\", "
+                + "\"address\" : \"101, Art Street\", \"startTime\" : \"2025-11-15 10:00\" } ], "
+                + "\"linkedPersonsEntries\" : [ { \"eventId\" : 1, \"personIds\" : [ 2 ] } ] }");
+        assertThrows(DataLoadingException.class, IllegalValueException.class.getName() + ": "
+                + String.format(JsonAdaptedLinkedPersonsEntry.MESSAGE_UNKNOWN_ID, "person", 2L), () ->
+                new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_withProgressListener_reportsProgressUpToFileSize() throws Exception {
+        Path filePath = testFolder.resolve("Progress.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, true);
+        storage.saveAddressBook(getTypicalAddressBook());
+        long fileSize = Files.size(filePath);
+        List<Long> progress = new ArrayList<>();
+        storage.setLoadProgressListener((bytesRead, totalBytes) -> {
+            assertEquals(fileSize, totalBytes);
+            progress.add(bytesRead);
+        });
+
+        storage.readAddressBook();
+
+        assertTrue(progress.size() > 1);
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i - 1) < progress.get(i));
+        }
+        assertEquals(fileSize, (long) progress.get(progress.size() - 1));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +191,40 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compactAndPrettyPrinted_readBackWithLinks() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(ART_EXHIBIT);
+        original.linkPersonToEvent(ALICE, ART_EXHIBIT);
+
+        Path compactFilePath = testFolder.resolve("Compact.json");
+        new JsonAddressBookStorage(compactFilePath).saveAddressBook(original);
+        Path prettyFilePath = testFolder.resolve("Pretty.json");
+        new JsonAddressBookStorage(prettyFilePath, true).saveAddressBook(original);
+
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertTrue(Files.readString(prettyFilePath).contains("\n"));
+        for (Path filePath : List.of(compactFilePath, prettyFilePath)) {
+            AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+            assertEquals(original, readBack);
+            assertEquals(Set.of(ART_EXHIBIT), readBack.getLinkedEvents(ALICE));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_snapshot_sameAsAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addEvent(ART_EXHIBIT);
+        original.linkPersonToEvent(ALICE, ART_EXHIBIT);
+
+        Path addressBookFilePath = testFolder.resolve("AddressBook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(original);
+        Path snapshotFilePath = testFolder.resolve("Snapshot.json");
+        new JsonAddressBookStorage(snapshotFilePath).saveAddressBook(AddressBookSnapshot.of(original));
+
+        assertEquals(Files.readString(addressBookFilePath), Files.readString(snapshotFilePath));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RecordConverterTest {
+
+    private static final int RECORD_COUNT = RecordConverter.MIN_PARALLEL_BATCH_SIZE * 8;
+
+    private final List<Object> received = new ArrayList<>();
+
+    private static List<Integer> getRecords() {
+        return IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+    }
+
+    private static Integer failAt(int invalidRecord, Integer record) throws IllegalValueException {
+        if (record == invalidRecord) {
+            throw new IllegalValueException("invalid " + record);
+        }
+        return record;
+    }
+
+    @Test
+    public void convert_largeBatch_receivedInOrder() throws Exception {
+        RecordConverter<Integer, String> converter = new RecordConverter<>(String::valueOf, record -> false,
+                received::add);
+
+        converter.convert(getRecords());
+
+        assertEquals(getRecords().stream().map(String::valueOf).collect(Collectors.toList()), received);
+    }
+
+    @Test
+    public void convert_severalInvalidRecords_throwsFirstInOrder() {
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> {
+            if (record % 100 == 0 && record > 0) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        }, record -> false, received::add);
+
+        assertThrows(IllegalValueException.class, "invalid 100", () -> converter.convert(getRecords()));
+        assertEquals(100, received.size());
+    }
+
+    @Test
+    public void convert_receiverFailsBeforeInvalidRecord_throwsReceiverFailure() {
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> failAt(100, record),
+                record -> false, model -> {
+                    if (model == 50) {
+                        throw new IllegalValueException("duplicate " + model);
+                    }
+                });
+
+        assertThrows(IllegalValueException.class, "duplicate 50", () -> converter.convert(getRecords()));
+    }
+
+    @Test
+    public void convert_invalidRecordBeforeReceiverFails_throwsConversionFailure() {
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> failAt(50, record),
+                record -> false, model -> {
+                    if (model == 100) {
+                        throw new IllegalValueException("duplicate " + model);
+                    }
+                });
+
+        assertThrows(IllegalValueException.class, "invalid 50", () -> converter.convert(getRecords()));
+    }
+
+    @Test
+    public void finish_sequentialRecords_convertedInOrderAfterAllBatches() throws Exception {
+        AtomicInteger conversionCount = new AtomicInteger();
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> conversionCount.getAndIncrement(),
+                record -> record % 8 == 0, received::add);
+        List<Integer> records = getRecords();
+
+        converter.convert(records.subList(0, RECORD_COUNT / 2));
+        assertEquals(0, received.size());
+        converter.convert(records.subList(RECORD_COUNT / 2, RECORD_COUNT));
+        converter.finish();
+
+        assertEquals(RECORD_COUNT, received.size());
+        int parallelCount = RECORD_COUNT - RECORD_COUNT / 8;
+        for (int i = 0; i < RECORD_COUNT; i += 8) {
+            assertEquals(parallelCount + i / 8, received.get(i));
+        }
+    }
+
+    @Test
+    public void finish_invalidRecordAfterSequentialRecord_throwsInOrder() throws Exception {
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> failAt(5, record),
+                record -> record == 2, model -> {
+                    if (model == 3) {
+                        throw new IllegalValueException("duplicate " + model);
+                    }
+                });
+
+        converter.convert(List.of(0, 1, 2, 3, 4, 5));
+        assertThrows(IllegalValueException.class, "duplicate 3", converter::finish);
+    }
+
+    @Test
+    public void convert_smallBatch_convertedOnCallingThread() throws Exception {
+        Thread caller = Thread.currentThread();
+        RecordConverter<Integer, Boolean> converter = new RecordConverter<>(record ->
+                Thread.currentThread() == caller, record -> false, received::add);
+
+        converter.convert(List.of(1, 2, 3));
+
+        assertEquals(List.of(true, true, true), received);
+    }
+}